@@ -0,0 +1,55 @@
+package io.swagger.codegen;
+
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.Schema;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Runs single steps of {@link DefaultGenerator#generate()}, through the package level methods of the generator, so
+ * the benchmarks measure the generator's own code.
+ */
+public final class GeneratorStages {
+    private final DefaultGenerator generator = new DefaultGenerator();
+    private final ClientOptInput input;
+
+    /**
+     * @param input generation input, its codegen and spec are processed like at the start of a generation
+     */
+    public GeneratorStages(ClientOptInput input) {
+        this.input = input;
+        generator.opts(input);
+        generator.configure();
+    }
+
+    public CodegenConfig getConfig() {
+        return input.getConfig();
+    }
+
+    public OpenAPI getOpenAPI() {
+        return input.getOpenAPI();
+    }
+
+    /**
+     * @return template data of the model, converted here, before {@link CodegenConfig#postProcessAllModels(Map)}
+     */
+    public Map<String, Object> processModel(String name, Map<String, Schema> schemas) {
+        return generator.processModel(name, schemas, Collections.<String, CodegenModel>emptyMap());
+    }
+
+    /**
+     * @return operations of the spec, by tag
+     */
+    public Map<String, List<CodegenOperation>> processPaths() {
+        return generator.processPaths(getOpenAPI().getPaths());
+    }
+
+    /**
+     * @return template data of the api of the tag
+     */
+    public Map<String, Object> processApi(String tag, List<CodegenOperation> ops, List<Object> allModels) {
+        return generator.processApi(tag, ops, allModels);
+    }
+}
@@ -0,0 +1,149 @@
+package io.swagger.codegen.benchmarks;
+
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.swagger.parser.OpenAPIParser;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.parser.core.models.ParseOptions;
+import org.apache.commons.io.IOUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Specs the benchmarks generate from: the petstore, and synthetic specs of growing size. Synthetic schemas reference
+ * each other and mix primitive, enum, array and map properties; operations are spread over tags, so a generation
+ * produces many api files as well.
+ */
+public enum BenchmarkSpec {
+    PETSTORE(0, 0),
+    MEDIUM(500, 1000),
+    HUGE(5000, 10000);
+
+    private static final JsonNodeFactory NODES = JsonNodeFactory.instance;
+
+    private final int schemas;
+    private final int operations;
+
+    BenchmarkSpec(int schemas, int operations) {
+        this.schemas = schemas;
+        this.operations = operations;
+    }
+
+    /**
+     * @return spec contents, as JSON
+     */
+    public String getContent() {
+        if (schemas == 0) {
+            try (InputStream in = BenchmarkSpec.class.getResourceAsStream("/specs/petstore.json")) {
+                return IOUtils.toString(in, StandardCharsets.UTF_8);
+            } catch (IOException e) {
+                throw new IllegalStateException("Could not read petstore spec", e);
+            }
+        }
+        try {
+            return Json.mapper().writeValueAsString(synthetic(schemas, operations));
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not write synthetic spec", e);
+        }
+    }
+
+    /**
+     * @return spec parsed and resolved like the generator does
+     */
+    public OpenAPI parse() {
+        return parse(getContent());
+    }
+
+    static OpenAPI parse(String content) {
+        final ParseOptions options = new ParseOptions();
+        options.setResolve(true);
+        options.setFlatten(true);
+        return new OpenAPIParser().readContents(content, null, options).getOpenAPI();
+    }
+
+    private static ObjectNode synthetic(int schemaCount, int operationCount) {
+        final ObjectNode spec = NODES.objectNode();
+        spec.put("openapi", "3.0.0");
+        spec.putObject("info")
+                .put("title", "Synthetic API")
+                .put("version", "1.0.0");
+        spec.putArray("servers").addObject().put("url", "http://localhost/api");
+
+        final ObjectNode paths = spec.putObject("paths");
+        final int tags = Math.max(1, operationCount / 200);
+        for (int i = 0; i < operationCount / 2; i++) {
+            final String model = "Model" + (i % schemaCount);
+            final String tag = "group" + (i % tags);
+            final ObjectNode path = paths.putObject("/resource" + i + "/{id}");
+
+            final ObjectNode get = operation(path.putObject("get"), "getResource" + i, tag, model);
+            get.withArray("parameters").addObject()
+                    .put("name", "fields")
+                    .put("in", "query")
+                    .put("required", false)
+                    .putObject("schema").put("type", "string");
+            get.with("responses").putObject("404").put("description", "not found");
+
+            final ObjectNode put = operation(path.putObject("put"), "updateResource" + i, tag, model);
+            put.putObject("requestBody")
+                    .put("required", true)
+                    .putObject("content")
+                    .putObject("application/json")
+                    .set("schema", ref(model));
+        }
+
+        final ObjectNode schemas = spec.putObject("components").putObject("schemas");
+        for (int i = 0; i < schemaCount; i++) {
+            schemas.set("Model" + i, schema(i, schemaCount));
+        }
+        return spec;
+    }
+
+    private static ObjectNode operation(ObjectNode operation, String operationId, String tag, String model) {
+        operation.put("operationId", operationId);
+        operation.putArray("tags").add(tag);
+        operation.put("summary", "Operation " + operationId);
+        operation.putArray("parameters").addObject()
+                .put("name", "id")
+                .put("in", "path")
+                .put("required", true)
+                .putObject("schema")
+                .put("type", "integer")
+                .put("format", "int64");
+        operation.putObject("responses")
+                .putObject("200")
+                .put("description", "successful operation")
+                .putObject("content")
+                .putObject("application/json")
+                .set("schema", ref(model));
+        return operation;
+    }
+
+    private static ObjectNode schema(int index, int schemaCount) {
+        final ObjectNode schema = NODES.objectNode();
+        schema.put("type", "object");
+        schema.put("description", "Synthetic model " + index);
+        schema.putArray("required").add("id").add("name");
+
+        final ObjectNode properties = schema.putObject("properties");
+        properties.putObject("id").put("type", "integer").put("format", "int64");
+        properties.putObject("name").put("type", "string");
+        properties.putObject("createdAt").put("type", "string").put("format", "date-time");
+        properties.putObject("price").put("type", "number").put("format", "double");
+        final ArrayNode status = properties.putObject("status").put("type", "string").putArray("enum");
+        status.add("available").add("pending").add("sold");
+        properties.putObject("tags").put("type", "array").putObject("items").put("type", "string");
+        properties.putObject("attributes").put("type", "object").putObject("additionalProperties").put("type", "string");
+        properties.set("parent", ref("Model" + ((index + 1) % schemaCount)));
+        properties.putObject("children").put("type", "array").set("items", ref("Model" + ((index + 7) % schemaCount)));
+        return schema;
+    }
+
+    private static ObjectNode ref(String model) {
+        return NODES.objectNode().put("$ref", "#/components/schemas/" + model);
+    }
+}
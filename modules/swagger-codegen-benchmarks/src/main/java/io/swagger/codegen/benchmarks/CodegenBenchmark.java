@@ -0,0 +1,65 @@
+package io.swagger.codegen.benchmarks;
+
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.media.Schema;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversion of the spec to codegen models and operations, for all schemas and operations of the spec, and the
+ * post processing of all models.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class CodegenBenchmark {
+
+    @State(Scope.Thread)
+    public static class ProcessedModels {
+        Map<String, Object> models;
+
+        @Setup(Level.Invocation)
+        public void setUp(CodegenState state) {
+            // post processing modifies the models, each invocation starts from freshly converted ones
+            models = Codegens.models(state.stages, state.schemas);
+        }
+    }
+
+    @Benchmark
+    public void fromModel(CodegenState state, Blackhole blackhole) {
+        for (Map.Entry<String, Schema> entry : state.schemas.entrySet()) {
+            blackhole.consume(state.config.fromModel(entry.getKey(), entry.getValue(), state.schemas));
+        }
+    }
+
+    @Benchmark
+    public void fromOperation(CodegenState state, Blackhole blackhole) {
+        for (Map.Entry<String, PathItem> path : state.openAPI.getPaths().entrySet()) {
+            for (Map.Entry<PathItem.HttpMethod, Operation> operation : path.getValue().readOperationsMap().entrySet()) {
+                final String httpMethod = operation.getKey().name().toLowerCase();
+                blackhole.consume(state.config.fromOperation(path.getKey(), httpMethod, operation.getValue(), state.schemas, state.openAPI));
+            }
+        }
+    }
+
+    @Benchmark
+    public Map<String, Object> postProcessAllModels(CodegenState state, ProcessedModels processedModels) {
+        return state.config.postProcessAllModels(processedModels.models);
+    }
+}
@@ -0,0 +1,38 @@
+package io.swagger.codegen.benchmarks;
+
+import io.swagger.codegen.CodegenConfig;
+import io.swagger.codegen.GeneratorStages;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.Schema;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Map;
+
+/**
+ * Parsed spec and the codegen of a language, processed up to the conversion of models and operations.
+ */
+@State(Scope.Benchmark)
+public class CodegenState {
+
+    @Param({"PETSTORE", "MEDIUM", "HUGE"})
+    public BenchmarkSpec spec;
+
+    @Param({"java", "python", "typescript-angular"})
+    public String lang;
+
+    OpenAPI openAPI;
+    GeneratorStages stages;
+    CodegenConfig config;
+    Map<String, Schema> schemas;
+
+    @Setup
+    public void setUp() {
+        openAPI = spec.parse();
+        stages = Codegens.prepare(lang, openAPI);
+        config = stages.getConfig();
+        schemas = openAPI.getComponents().getSchemas();
+    }
+}
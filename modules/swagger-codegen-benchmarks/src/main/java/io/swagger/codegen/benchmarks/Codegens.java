@@ -0,0 +1,80 @@
+package io.swagger.codegen.benchmarks;
+
+import com.github.jknack.handlebars.Template;
+import io.swagger.codegen.ClientOptInput;
+import io.swagger.codegen.CodegenConfig;
+import io.swagger.codegen.CompiledTemplateCache;
+import io.swagger.codegen.DefaultGenerator;
+import io.swagger.codegen.GeneratorStages;
+import io.swagger.codegen.config.CodegenConfigurator;
+import io.swagger.codegen.output.InMemoryOutputSink;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.Schema;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Sets up codegens and template data through the steps of {@link DefaultGenerator}, so single stages of the
+ * generation can be measured on their own.
+ */
+final class Codegens {
+    static final String OUTPUT_DIR = "target/benchmark-output";
+
+    private Codegens() {
+    }
+
+    /**
+     * @param lang codegen name
+     * @param openAPI parsed spec, modified by the codegen
+     * @return generation input writing to memory
+     */
+    static ClientOptInput input(String lang, OpenAPI openAPI) {
+        return new CodegenConfigurator()
+                .setLang(lang)
+                .setOutputDir(OUTPUT_DIR)
+                .toClientOptInput(openAPI)
+                .outputSink(new InMemoryOutputSink(OUTPUT_DIR));
+    }
+
+    /**
+     * @param lang codegen name
+     * @param openAPI parsed spec, preprocessed by the codegen
+     * @return generator steps of a codegen ready to convert models and operations
+     */
+    static GeneratorStages prepare(String lang, OpenAPI openAPI) {
+        return new GeneratorStages(input(lang, openAPI));
+    }
+
+    /**
+     * @return template data of each model, by schema name, before {@link CodegenConfig#postProcessAllModels(Map)}
+     */
+    static Map<String, Object> models(GeneratorStages stages, Map<String, Schema> schemas) {
+        final Map<String, Object> allModels = new TreeMap<>();
+        for (String name : schemas.keySet()) {
+            allModels.put(name, stages.processModel(name, schemas));
+        }
+        return allModels;
+    }
+
+    /**
+     * @param templateNames template files of the codegen, e.g. its model templates
+     * @return compiled templates, resolved like the generator does
+     */
+    static List<Template> templates(CodegenConfig config, Iterable<String> templateNames) throws IOException {
+        final DefaultGenerator generator = new DefaultGenerator();
+        final List<Template> templates = new ArrayList<>();
+        for (String templateName : templateNames) {
+            String templateFile = generator.getFullTemplateFile(config, templateName);
+            if (templateFile.startsWith(config.templateDir())) {
+                templateFile = templateFile.substring(config.templateDir().length());
+            }
+            templateFile = templateFile.replace(".mustache", "").replace("\\", "/");
+            templates.add(CompiledTemplateCache.getInstance().get(config, templateFile));
+        }
+        return templates;
+    }
+}
@@ -0,0 +1,61 @@
+package io.swagger.codegen.benchmarks;
+
+import io.swagger.codegen.ClientOptInput;
+import io.swagger.codegen.DefaultGenerator;
+import io.swagger.codegen.utils.OpenAPISnapshot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end {@link DefaultGenerator#generate()} from a parsed spec, writing the files to memory.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class GenerateBenchmark {
+
+    @Param({"PETSTORE", "MEDIUM", "HUGE"})
+    public BenchmarkSpec spec;
+
+    @Param({"java", "python", "typescript-angular"})
+    public String lang;
+
+    @Param({"1", "4"})
+    public int workers;
+
+    private OpenAPISnapshot snapshot;
+    private ClientOptInput input;
+
+    @Setup
+    public void setUp() {
+        snapshot = new OpenAPISnapshot(spec.parse());
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpInput() {
+        // codegens modify the spec, each generation gets its own copy and codegen
+        input = Codegens.input(lang, snapshot.copy()).workers(workers);
+    }
+
+    @Benchmark
+    public List<File> generate() {
+        return new DefaultGenerator().opts(input).generate();
+    }
+}
@@ -0,0 +1,78 @@
+package io.swagger.codegen.benchmarks;
+
+import com.github.jknack.handlebars.Template;
+import io.swagger.codegen.CodegenConfig;
+import io.swagger.codegen.CodegenOperation;
+import org.apache.commons.io.output.NullWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rendering of the model and api templates of the codegen, for all models and apis of the spec. Templates are
+ * compiled once and the output is discarded, so only the handlebars rendering is measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class RenderBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class TemplateData {
+        List<Template> modelTemplates;
+        List<Template> apiTemplates;
+        List<Object> models;
+        List<Object> apis;
+
+        @Setup
+        public void setUp(CodegenState state) throws IOException {
+            final CodegenConfig config = state.config;
+            models = new ArrayList<>(config.postProcessAllModels(Codegens.models(state.stages, state.schemas)).values());
+            final List<Object> allModels = new ArrayList<>();
+            for (Object model : models) {
+                allModels.add(((List<?>) ((Map<?, ?>) model).get("models")).get(0));
+            }
+
+            apis = new ArrayList<>();
+            for (Map.Entry<String, List<CodegenOperation>> api : state.stages.processPaths().entrySet()) {
+                apis.add(state.stages.processApi(api.getKey(), api.getValue(), allModels));
+            }
+
+            modelTemplates = Codegens.templates(config, config.modelTemplateFiles().keySet());
+            apiTemplates = Codegens.templates(config, config.apiTemplateFiles().keySet());
+        }
+    }
+
+    @Benchmark
+    public void renderModels(TemplateData data) throws IOException {
+        render(data.modelTemplates, data.models);
+    }
+
+    @Benchmark
+    public void renderApis(TemplateData data) throws IOException {
+        render(data.apiTemplates, data.apis);
+    }
+
+    private static void render(List<Template> templates, List<Object> bundles) throws IOException {
+        for (Template template : templates) {
+            for (Object bundle : bundles) {
+                template.apply(bundle, NullWriter.NULL_WRITER);
+            }
+        }
+    }
+}
@@ -88,26 +88,7 @@ public class SwaggerCodegen {
                 }
             }
             if (command.equalsIgnoreCase(GENERATE_COMMAND_NAME)) {
-                String language = CLIHelper.detectlanguage(args);
-                if (StringUtils.isNotBlank(language)) {
-                    CodegenConfig config = CodegenConfigLoader.forName(language);
-                    codegenArguments = config.readLanguageArguments();
-                    if (codegenArguments != null && !codegenArguments.isEmpty()) {
-                        for (CodegenArgument codegenArgument : codegenArguments) {
-                            String[] arguments = CLIHelper.getArguments(codegenArgument);
-                            Class clazz = "boolean".equalsIgnoreCase(codegenArgument.getType()) ? Boolean.class : String.class;
-                            final Argument argument = parser.addArgument(arguments)
-                                    .type(clazz)
-                                    .help(codegenArgument.getDescription())
-                                    .metavar(StringUtils.EMPTY);
-                            if (codegenArgument.getType().equalsIgnoreCase("boolean")) {
-                                argument.nargs("?").setConst(true);
-                            } else if(codegenArgument.getArray() != null && codegenArgument.getArray()) {
-                                argument.nargs("*");
-                            }
-                        }
-                    }
-                }
+                codegenArguments = addLanguageArguments(parser, args);
             }
         }
         final Map<String, Object> inputArgs = new HashMap<>();
@@ -167,4 +148,35 @@ public class SwaggerCodegen {
             LOGGER.error(String.format("Could not load class '%s' for command '%s'", className, userInputCommand), ex);
         }
     }
+
+    /**
+     * Adds the options of the language given on the command line to the generate command. Language options apply to a
+     * single language, so none are added when several languages are generated, e.g. with <code>-l java,python</code>.
+     *
+     * @return options of the language, or null if no single language is given
+     */
+    static List<CodegenArgument> addLanguageArguments(Subparser parser, String[] args) {
+        final String[] languages = StringUtils.split(CLIHelper.detectlanguage(args), ',');
+        if (languages == null || languages.length != 1 || StringUtils.isBlank(languages[0])) {
+            return null;
+        }
+        CodegenConfig config = CodegenConfigLoader.forName(languages[0].trim());
+        List<CodegenArgument> codegenArguments = config.readLanguageArguments();
+        if (codegenArguments != null && !codegenArguments.isEmpty()) {
+            for (CodegenArgument codegenArgument : codegenArguments) {
+                String[] arguments = CLIHelper.getArguments(codegenArgument);
+                Class clazz = "boolean".equalsIgnoreCase(codegenArgument.getType()) ? Boolean.class : String.class;
+                final Argument argument = parser.addArgument(arguments)
+                        .type(clazz)
+                        .help(codegenArgument.getDescription())
+                        .metavar(StringUtils.EMPTY);
+                if (codegenArgument.getType().equalsIgnoreCase("boolean")) {
+                    argument.nargs("?").setConst(true);
+                } else if(codegenArgument.getArray() != null && codegenArgument.getArray()) {
+                    argument.nargs("*");
+                }
+            }
+        }
+        return codegenArguments;
+    }
 }
@@ -0,0 +1,137 @@
+package io.swagger.codegen.cmd;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.swagger.codegen.CLIHelper;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.core.util.Yaml;
+import org.apache.commons.beanutils.BeanUtils;
+import org.apache.commons.io.FileUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static io.swagger.codegen.CLIHelper.isValidJson;
+
+/**
+ * Runs the generations of a manifest in a single process, so they share the loaded classes, the JIT-compiled code
+ * and the template caches instead of each starting a new JVM.
+ * <p>
+ * The manifest is a JSON or YAML list of jobs, each with the same options as the arguments file of
+ * {@link Generate}, or an object with such a list in <code>jobs</code> and options shared by all jobs in
+ * <code>defaults</code>:
+ * <pre>
+ * defaults:
+ *   spec: petstore.yaml
+ * jobs:
+ *   - lang: java
+ *     output: out/java
+ *   - lang: python
+ *     output: out/python
+ * </pre>
+ */
+public class Batch implements Runnable {
+
+    public static final Logger LOG = LoggerFactory.getLogger(Batch.class);
+
+    protected String manifest;
+    protected Integer threads;
+
+    public void setManifest(String manifest) {
+        this.manifest = manifest;
+    }
+
+    public void setThreads(Integer threads) {
+        this.threads = threads;
+    }
+
+    @Override
+    public void run() {
+        final List<JsonNode> jobs;
+        try {
+            jobs = readJobs(FileUtils.readFileToString(new File(manifest), StandardCharsets.UTF_8));
+        } catch (IOException | IllegalArgumentException e) {
+            LOG.error("Unable to read manifest: " + manifest, e);
+            return;
+        }
+        final int poolSize = threads != null && threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        final ExecutorService executor = Executors.newFixedThreadPool(poolSize);
+        final long start = System.nanoTime();
+        final List<Future<Long>> results = new ArrayList<>();
+        for (JsonNode job : jobs) {
+            results.add(executor.submit(() -> runJob(job)));
+        }
+        executor.shutdown();
+
+        int failed = 0;
+        for (int i = 0; i < jobs.size(); i++) {
+            final String name = String.format("[%d/%d] %s", i + 1, jobs.size(), describe(jobs.get(i)));
+            try {
+                System.out.printf("%s done in %d ms%n", name, results.get(i).get());
+            } catch (ExecutionException e) {
+                failed++;
+                System.out.printf("%s failed: %s%n", name, e.getCause().getMessage());
+                LOG.error(name + " failed", e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                executor.shutdownNow();
+                return;
+            }
+        }
+        System.out.printf("%d jobs, %d succeeded, %d failed in %d ms%n", jobs.size(), jobs.size() - failed, failed,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    /**
+     * @param content manifest contents
+     * @return options of each job, merged with the defaults of the manifest
+     */
+    static List<JsonNode> readJobs(String content) throws IOException {
+        final JsonNode node = isValidJson(content) ? Json.mapper().readTree(content) : Yaml.mapper().readTree(content);
+        final JsonNode jobsNode = node != null && node.isObject() ? node.get("jobs") : node;
+        if (jobsNode == null || !jobsNode.isArray()) {
+            throw new IllegalArgumentException("manifest must be a list of jobs or an object with a 'jobs' list");
+        }
+        final JsonNode defaults = node.isObject() ? node.get("defaults") : null;
+        final List<JsonNode> jobs = new ArrayList<>();
+        for (JsonNode job : jobsNode) {
+            if (!job.isObject()) {
+                throw new IllegalArgumentException("each job must be an object of generate options");
+            }
+            if (defaults != null && defaults.isObject()) {
+                final ObjectNode merged = ((ObjectNode) defaults).deepCopy();
+                merged.setAll((ObjectNode) job);
+                jobs.add(merged);
+            } else {
+                jobs.add(job);
+            }
+        }
+        return jobs;
+    }
+
+    private static long runJob(JsonNode job) throws Exception {
+        final long start = System.nanoTime();
+        final Generate generate = new Generate();
+        BeanUtils.populate(generate, CLIHelper.createOptionValueMap(job));
+        // jobs run in parallel, their switches are kept in their own generation context
+        generate.setExportSystemProperties(false);
+        generate.run();
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    }
+
+    private static String describe(JsonNode job) {
+        final JsonNode lang = job.get("lang");
+        final JsonNode output = job.get("output");
+        return (lang != null ? lang.asText() : "?") + (output != null ? " -> " + output.asText() : "");
+    }
+}
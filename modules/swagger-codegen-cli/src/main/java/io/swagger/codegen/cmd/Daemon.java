@@ -0,0 +1,69 @@
+package io.swagger.codegen.cmd;
+
+import io.swagger.codegen.daemon.DaemonClient;
+import io.swagger.codegen.daemon.GeneratorDaemon;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs a {@link GeneratorDaemon} until it is stopped or idle, or stops the running one.
+ */
+public class Daemon implements Runnable {
+
+    public static final Logger LOG = LoggerFactory.getLogger(Daemon.class);
+
+    protected Integer port;
+    protected Integer workers;
+    protected Integer idleTimeout;
+    protected Boolean stop;
+
+    public void setPort(Integer port) {
+        this.port = port;
+    }
+
+    public void setWorkers(Integer workers) {
+        this.workers = workers;
+    }
+
+    public void setIdleTimeout(Integer idleTimeout) {
+        this.idleTimeout = idleTimeout;
+    }
+
+    public void setStop(Boolean stop) {
+        this.stop = stop;
+    }
+
+    @Override
+    public void run() {
+        if (Boolean.TRUE.equals(stop)) {
+            final DaemonClient client = DaemonClient.find();
+            if (client == null) {
+                System.out.println("No generator daemon running");
+                return;
+            }
+            try {
+                client.stop();
+                System.out.println("Generator daemon stopped");
+            } catch (IOException e) {
+                LOG.error("Could not reach the generator daemon", e);
+            }
+            return;
+        }
+        final GeneratorDaemon daemon;
+        try {
+            daemon = new GeneratorDaemon(
+                    port != null ? port : 0,
+                    workers != null && workers > 0 ? workers : Runtime.getRuntime().availableProcessors(),
+                    (int) TimeUnit.MINUTES.toMillis(idleTimeout != null ? idleTimeout : 180),
+                    GeneratorDaemon.getDefaultInfoFile());
+        } catch (IOException e) {
+            LOG.error("Could not start the generator daemon", e);
+            return;
+        }
+        System.out.println("Generator daemon listening on port " + daemon.getPort());
+        daemon.serve();
+    }
+}
@@ -5,7 +5,10 @@ import io.swagger.codegen.CLIHelper;
 import io.swagger.codegen.ClientOptInput;
 import io.swagger.codegen.CodegenArgument;
 import io.swagger.codegen.DefaultGenerator;
+import io.swagger.codegen.MultiTargetGenerator;
 import io.swagger.codegen.config.CodegenConfigurator;
+import io.swagger.codegen.daemon.DaemonClient;
+import io.swagger.codegen.daemon.DaemonResponse;
 import io.swagger.v3.core.util.Json;
 import io.swagger.v3.core.util.Yaml;
 import io.swagger.v3.parser.util.RemoteUrl;
@@ -73,8 +76,25 @@ public class Generate implements Runnable {
     protected List<String> reservedWordsMappings = new ArrayList<>();
     protected String ignoreFileOverride;
     protected Boolean removeOperationIdPrefix;
+    protected Integer workers;
+    protected Boolean incremental;
+    protected Boolean skipIdenticalFiles;
+    protected Boolean daemon;
     private String url;
     private List<CodegenArgument> codegenArguments;
+    private boolean exportSystemProperties = true;
+
+    /**
+     * @param exportSystemProperties false to keep the -D switches in the generation context only, when several
+     * generations run in the same JVM
+     */
+    void setExportSystemProperties(boolean exportSystemProperties) {
+        this.exportSystemProperties = exportSystemProperties;
+    }
+
+    public void setDaemon(Boolean daemon) {
+        this.daemon = daemon;
+    }
 
     public void setVerbose(Boolean verbose) {
         this.verbose = verbose;
@@ -200,6 +220,18 @@ public class Generate implements Runnable {
         this.removeOperationIdPrefix = removeOperationIdPrefix;
     }
 
+    public void setWorkers(Integer workers) {
+        this.workers = workers;
+    }
+
+    public void setIncremental(Boolean incremental) {
+        this.incremental = incremental;
+    }
+
+    public void setSkipIdenticalFiles(Boolean skipIdenticalFiles) {
+        this.skipIdenticalFiles = skipIdenticalFiles;
+    }
+
     public void setUrl(String url) {
         this.url = url;
     }
@@ -315,10 +347,24 @@ public class Generate implements Runnable {
             configurator.setRemoveOperationIdPrefix(removeOperationIdPrefix);
         }
 
+        if (workers != null) {
+            configurator.setWorkers(workers);
+        }
+
+        if (incremental != null) {
+            configurator.setIncremental(incremental);
+        }
+
+        if (skipIdenticalFiles != null) {
+            configurator.setSkipIdenticalFiles(skipIdenticalFiles);
+        }
+
         if (codegenArguments != null && !codegenArguments.isEmpty()) {
             configurator.setCodegenArguments(codegenArguments);
         }
 
+        // single generation per JVM, keep the switches visible to configs reading system properties
+        configurator.setExportSystemProperties(exportSystemProperties);
         applySystemPropertiesKvpList(systemProperties, configurator);
         applyInstantiationTypesKvpList(instantiationTypes, configurator);
         applyImportMappingsKvpList(importMappings, configurator);
@@ -326,11 +372,108 @@ public class Generate implements Runnable {
         applyAdditionalPropertiesKvpList(additionalProperties, configurator);
         applyLanguageSpecificPrimitivesCsvList(languageSpecificPrimitives, configurator);
         applyReservedWordsMappingsKvpList(reservedWordsMappings, configurator);
+
+        final String[] langs = StringUtils.split(configurator.getLang(), ',');
+        if (langs != null && langs.length > 1) {
+            final List<String> options = getLanguageSpecificOptions(configurator, codegenArguments);
+            if (!options.isEmpty()) {
+                throw new IllegalArgumentException("Options " + String.join(", ", options)
+                        + " are specific to a language, they can't be given when generating several languages: "
+                        + configurator.getLang());
+            }
+            generateTargets(configurator, langs);
+            return;
+        }
+        if (Boolean.TRUE.equals(daemon) && generateInDaemon(configurator)) {
+            return;
+        }
         final ClientOptInput clientOptInput = configurator.toClientOptInput();
 
         new DefaultGenerator().opts(clientOptInput).generate();
     }
 
+    /**
+     * @return false if no daemon is running or it can't run the generation, e.g. as it runs another version, so the
+     * generation must run in this process
+     */
+    private boolean generateInDaemon(CodegenConfigurator configurator) {
+        if (codegenArguments != null && !codegenArguments.isEmpty()) {
+            LOG.info("Language arguments are not sent to the generator daemon, generating in process");
+            return false;
+        }
+        final DaemonClient client = DaemonClient.find();
+        if (client == null) {
+            LOG.info("No generator daemon running, generating in process");
+            return false;
+        }
+        final DaemonResponse response;
+        try {
+            response = client.generate(configurator, null);
+        } catch (IOException e) {
+            LOG.warn("Could not reach the generator daemon, generating in process", e);
+            return false;
+        }
+        if (response.isUnsupported()) {
+            LOG.info("The generator daemon can't run this generation, " + response.getMessage() + ", generating in process");
+            return false;
+        }
+        if (!response.isSuccess()) {
+            throw new RuntimeException("Generation failed in the generator daemon: " + response.getMessage());
+        }
+        LOG.info("Generated " + response.getFiles() + " files in the generator daemon");
+        return true;
+    }
+
+    /**
+     * @param codegenArguments arguments of the language, may be null
+     * @return names of the options given which only apply to one language, e.g. a library, which can't be applied to
+     * several languages at once
+     */
+    static List<String> getLanguageSpecificOptions(CodegenConfigurator configurator, List<CodegenArgument> codegenArguments) {
+        final List<String> options = new ArrayList<>();
+        if (isNotEmpty(configurator.getLibrary())) {
+            options.add("library");
+        }
+        if (isNotEmpty(configurator.getTemplateDir())) {
+            options.add("template-dir");
+        }
+        if (!configurator.getAdditionalProperties().isEmpty() || !configurator.getDynamicProperties().isEmpty()) {
+            options.add("additional-properties");
+        }
+        if (!configurator.getInstantiationTypes().isEmpty()) {
+            options.add("instantiation-types");
+        }
+        if (!configurator.getTypeMappings().isEmpty()) {
+            options.add("type-mappings");
+        }
+        if (!configurator.getImportMappings().isEmpty()) {
+            options.add("import-mappings");
+        }
+        if (!configurator.getLanguageSpecificPrimitives().isEmpty()) {
+            options.add("language-specific-primitives");
+        }
+        if (!configurator.getReservedWordsMappings().isEmpty()) {
+            options.add("reserved-words-mappings");
+        }
+        if (codegenArguments != null && !codegenArguments.isEmpty()) {
+            options.add("language arguments");
+        }
+        return options;
+    }
+
+    /**
+     * Parses the spec once and generates each language in a sub folder of the output folder, named after it.
+     */
+    private void generateTargets(CodegenConfigurator configurator, String[] langs) {
+        final MultiTargetGenerator generator = MultiTargetGenerator.forSpec(configurator);
+        final String outputDir = configurator.getOutputDir();
+        for (String target : langs) {
+            configurator.setLang(target.trim());
+            configurator.setOutputDir(new File(outputDir, target.trim()).getPath());
+            generator.generate(configurator);
+        }
+    }
+
     private void loadArguments() {
         if (StringUtils.isBlank(this.url)) {
             return;
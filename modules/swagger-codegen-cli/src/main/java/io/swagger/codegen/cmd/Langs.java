@@ -1,11 +1,6 @@
 package io.swagger.codegen.cmd;
 
-import ch.lambdaj.collection.LambdaIterable;
-import io.swagger.codegen.CodegenConfig;
-
-import static ch.lambdaj.Lambda.on;
-import static ch.lambdaj.collection.LambdaCollections.with;
-import static java.util.ServiceLoader.load;
+import io.swagger.codegen.CodegenConfigRegistry;
 
 /**
  * User: lanwen Date: 24.03.15 Time: 20:25
@@ -13,8 +8,6 @@ import static java.util.ServiceLoader.load;
 public class Langs implements Runnable {
     @Override
     public void run() {
-        LambdaIterable<String> langs =
-                with(load(CodegenConfig.class)).extract(on(CodegenConfig.class).getName());
-        System.out.printf("Available languages: %s%n", langs);
+        System.out.printf("Available languages: %s%n", CodegenConfigRegistry.getInstance().getNames());
     }
 }
@@ -0,0 +1,38 @@
+package io.swagger.codegen;
+
+import net.sourceforge.argparse4j.ArgumentParsers;
+import net.sourceforge.argparse4j.inf.ArgumentParser;
+import net.sourceforge.argparse4j.inf.Subparser;
+import org.testng.annotations.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+public class SwaggerCodegenTest {
+
+    @Test(description = "no language options are loaded when several languages are generated")
+    public void testSeveralLanguages() throws Exception {
+        final ArgumentParser codegenParser = ArgumentParsers.newFor("swagger-codegen").build();
+        final Subparser generate = codegenParser.addSubparsers().addParser("generate");
+        generate.addArgument("-l", "--lang");
+        generate.addArgument("-o", "--output");
+        final String[] args = {"generate", "-l", "java,python", "-o", "out"};
+
+        assertNull(SwaggerCodegen.addLanguageArguments(generate, args));
+
+        final Map<String, Object> inputArgs = new HashMap<>();
+        codegenParser.parseArgs(args, inputArgs);
+        assertEquals(inputArgs.get("lang"), "java,python");
+    }
+
+    @Test(description = "a single language is loaded for its options", expectedExceptions = RuntimeException.class,
+            expectedExceptionsMessageRegExp = "(?s)Can't load config class with name unknown-language .*")
+    public void testSingleLanguage() {
+        final Subparser generate = ArgumentParsers.newFor("swagger-codegen").build().addSubparsers().addParser("generate");
+
+        SwaggerCodegen.addLanguageArguments(generate, new String[]{"generate", "-l", "unknown-language"});
+    }
+}
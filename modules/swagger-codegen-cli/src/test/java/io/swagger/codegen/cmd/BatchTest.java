@@ -0,0 +1,36 @@
+package io.swagger.codegen.cmd;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+
+public class BatchTest {
+
+    @Test(description = "jobs are merged with the defaults of the manifest")
+    public void testReadJobs() throws Exception {
+        final String manifest = "defaults:\n"
+                + "  spec: petstore.yaml\n"
+                + "  lang: java\n"
+                + "jobs:\n"
+                + "  - output: out/java\n"
+                + "  - lang: python\n"
+                + "    output: out/python\n";
+
+        final List<JsonNode> jobs = Batch.readJobs(manifest);
+        assertEquals(jobs.size(), 2);
+        assertEquals(jobs.get(0).get("lang").asText(), "java");
+        assertEquals(jobs.get(0).get("spec").asText(), "petstore.yaml");
+        assertEquals(jobs.get(1).get("lang").asText(), "python");
+        assertEquals(jobs.get(1).get("output").asText(), "out/python");
+    }
+
+    @Test(description = "manifests can also be a plain list of jobs")
+    public void testReadJobList() throws Exception {
+        final List<JsonNode> jobs = Batch.readJobs("[{\"lang\": \"java\", \"spec\": \"petstore.yaml\"}]");
+        assertEquals(jobs.size(), 1);
+        assertEquals(jobs.get(0).get("lang").asText(), "java");
+    }
+}
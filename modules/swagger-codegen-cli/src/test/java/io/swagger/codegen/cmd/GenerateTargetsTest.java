@@ -0,0 +1,44 @@
+package io.swagger.codegen.cmd;
+
+import io.swagger.codegen.config.CodegenConfigurator;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+public class GenerateTargetsTest {
+
+    @Test(description = "options shared by all languages are accepted")
+    public void testSharedOptions() {
+        final CodegenConfigurator configurator = new CodegenConfigurator()
+                .setLang("java,python")
+                .setApiPackage("io.pets.api")
+                .setArtifactVersion("1.0.0");
+
+        assertTrue(Generate.getLanguageSpecificOptions(configurator, null).isEmpty());
+    }
+
+    @Test(description = "language specific options can't be applied to several languages")
+    public void testLanguageSpecificOptions() {
+        final CodegenConfigurator configurator = new CodegenConfigurator()
+                .setLang("java,python")
+                .setLibrary("okhttp-gson")
+                .addAdditionalProperty("dateLibrary", "java8");
+
+        assertEquals(Generate.getLanguageSpecificOptions(configurator, null), Arrays.asList("library", "additional-properties"));
+
+        final Generate generate = new Generate();
+        generate.setLang("java,python");
+        generate.setLibrary("okhttp-gson");
+        generate.setSpec("src/test/resources/missing.yaml");
+        try {
+            generate.run();
+            fail("Expected the library to be rejected");
+        } catch (IllegalArgumentException e) {
+            assertEquals(e.getMessage(), "Options library are specific to a language, they can't be given when generating several languages: java,python");
+        }
+    }
+}
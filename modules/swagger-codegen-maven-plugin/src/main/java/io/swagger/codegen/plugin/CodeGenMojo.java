@@ -29,28 +29,37 @@ import static io.swagger.codegen.config.CodegenConfiguratorUtils.applyReservedWo
 import static org.apache.commons.lang3.StringUtils.isNotEmpty;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.apache.commons.io.FileUtils;
 import org.apache.maven.plugin.AbstractMojo;
 import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.Component;
 import org.apache.maven.plugins.annotations.LifecyclePhase;
 import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.project.MavenProject;
+import org.sonatype.plexus.build.incremental.BuildContext;
 
 import io.swagger.codegen.CliOption;
 import io.swagger.codegen.ClientOptInput;
 import io.swagger.codegen.CodegenConfig;
+import io.swagger.codegen.CodegenConfigLoader;
 import io.swagger.codegen.CodegenConstants;
 import io.swagger.codegen.DefaultGenerator;
 import io.swagger.codegen.config.CodegenConfigurator;
+import io.swagger.codegen.daemon.DaemonClient;
+import io.swagger.codegen.daemon.DaemonResponse;
+import io.swagger.codegen.utils.InputDigest;
 
 /**
  * Goal which generates client/server code from a swagger json/yaml definition.
  */
-@Mojo(name = "generate", defaultPhase = LifecyclePhase.GENERATE_SOURCES)
+@Mojo(name = "generate", defaultPhase = LifecyclePhase.GENERATE_SOURCES, threadSafe = true)
 public class CodeGenMojo extends AbstractMojo {
 
     @Parameter(name = "verbose", required = false, defaultValue = "false")
@@ -286,6 +295,40 @@ public class CodeGenMojo extends AbstractMojo {
     @Parameter(name = "skip", property = "codegen.skip", required = false, defaultValue = "false")
     private Boolean skip;
 
+    /**
+     * Number of threads used to render the generated files. Defaults to 1 (serial rendering).
+     */
+    @Parameter(name = "workers", property = "codegen.workers", required = false, defaultValue = "1")
+    private int workers = 1;
+
+    /**
+     * Only render the files whose spec, template or options changed since the last incremental generation.
+     */
+    @Parameter(name = "incremental", property = "codegen.incremental", required = false, defaultValue = "false")
+    private boolean incremental;
+
+    /**
+     * Leave existing files untouched when the generated content is identical, so they are not recompiled.
+     */
+    @Parameter(name = "skipIdenticalFiles", property = "codegen.skipIdenticalFiles", required = false, defaultValue = "false")
+    private boolean skipIdenticalFiles;
+
+    /**
+     * Send the generation to the generator daemon started with <code>swagger-codegen-cli daemon</code>, so it doesn't
+     * pay the JVM and codegen warmup. The generation runs in the build if no daemon is running.
+     */
+    @Parameter(name = "useDaemon", property = "codegen.useDaemon", required = false, defaultValue = "false")
+    private boolean useDaemon;
+
+    /**
+     * Skip the generation when its inputs did not change since the last generation in the output directory: the
+     * spec and the local files it references, the templates, the configuration, the plugin version and the jar of the
+     * language generator. Specs read from urls are always generated. Incremental IDE builds always skip unchanged
+     * generations.
+     */
+    @Parameter(name = "skipIfUnchanged", property = "codegen.skipIfUnchanged", required = false, defaultValue = "false")
+    private boolean skipIfUnchanged;
+
     /**
      * Add the output directory to the project as a source root, so that the generated java types
      * are compiled and included in the project artifact.
@@ -293,12 +336,13 @@ public class CodeGenMojo extends AbstractMojo {
     @Parameter(defaultValue = "true")
     private boolean addCompileSourceRoot = true;
 
+    /**
+     * Generation switches, e.g. <code>debugModels</code>, formerly passed as system properties. They only apply to
+     * this execution.
+     */
     @Parameter
     protected Map<String, String> environmentVariables = new HashMap<String, String>();
 
-    @Parameter
-    protected Map<String, String> originalEnvironmentVariables = new HashMap<String, String>();
-
     @Parameter
     private boolean configHelp = false;
 
@@ -308,6 +352,11 @@ public class CodeGenMojo extends AbstractMojo {
     @Parameter(readonly = true, required = true, defaultValue = "${project}")
     private MavenProject project;
 
+    @Parameter(readonly = true, defaultValue = "${plugin.version}")
+    private String pluginVersion;
+
+    @Component
+    private BuildContext buildContext;
 
 
     @Override
@@ -329,7 +378,12 @@ public class CodeGenMojo extends AbstractMojo {
             configurator = new CodegenConfigurator();
         }
 
+        // executions may run in parallel, their switches are kept in their own generation context
+        configurator.setExportSystemProperties(false);
         configurator.setVerbose(verbose);
+        configurator.setWorkers(workers);
+        configurator.setIncremental(incremental);
+        configurator.setSkipIdenticalFiles(skipIdenticalFiles);
 
         if (skipOverwrite != null) {
             configurator.setSkipOverwrite(skipOverwrite);
@@ -405,28 +459,28 @@ public class CodeGenMojo extends AbstractMojo {
 
         // Set generation options
         if (null != generateApis && generateApis) {
-            System.setProperty(CodegenConstants.APIS, "");
+            configurator.addSystemProperty(CodegenConstants.APIS, "");
         } else {
-            System.clearProperty(CodegenConstants.APIS);
+            configurator.clearSystemProperty(CodegenConstants.APIS);
         }
 
         if (null != generateModels && generateModels) {
-            System.setProperty(CodegenConstants.MODELS, modelsToGenerate);
+            configurator.addSystemProperty(CodegenConstants.MODELS, modelsToGenerate);
         } else {
-            System.clearProperty(CodegenConstants.MODELS);
+            configurator.clearSystemProperty(CodegenConstants.MODELS);
         }
 
         if (null != generateSupportingFiles && generateSupportingFiles) {
-            System.setProperty(CodegenConstants.SUPPORTING_FILES, supportingFilesToGenerate);
+            configurator.addSystemProperty(CodegenConstants.SUPPORTING_FILES, supportingFilesToGenerate);
         } else {
-            System.clearProperty(CodegenConstants.SUPPORTING_FILES);
+            configurator.clearSystemProperty(CodegenConstants.SUPPORTING_FILES);
         }
 
-        System.setProperty(CodegenConstants.MODEL_TESTS, generateModelTests.toString());
-        System.setProperty(CodegenConstants.MODEL_DOCS, generateModelDocumentation.toString());
-        System.setProperty(CodegenConstants.API_TESTS, generateApiTests.toString());
-        System.setProperty(CodegenConstants.API_DOCS, generateApiDocumentation.toString());
-        System.setProperty(CodegenConstants.WITH_XML, withXml.toString());
+        configurator.addSystemProperty(CodegenConstants.MODEL_TESTS, generateModelTests.toString());
+        configurator.addSystemProperty(CodegenConstants.MODEL_DOCS, generateModelDocumentation.toString());
+        configurator.addSystemProperty(CodegenConstants.API_TESTS, generateApiTests.toString());
+        configurator.addSystemProperty(CodegenConstants.API_DOCS, generateApiDocumentation.toString());
+        configurator.addSystemProperty(CodegenConstants.WITH_XML, withXml.toString());
 
         if (configOptions != null) {
             // Retained for backwards-compataibility with configOptions -> instantiation-types
@@ -498,17 +552,35 @@ public class CodeGenMojo extends AbstractMojo {
         if (environmentVariables != null) {
 
             for (String key : environmentVariables.keySet()) {
-                originalEnvironmentVariables.put(key, System.getProperty(key));
                 String value = environmentVariables.get(key);
                 if (value == null) {
                     // don't put null values
                     value = "";
                 }
-                System.setProperty(key, value);
                 configurator.addSystemProperty(key, value);
             }
         }
 
+        // the digest reads the spec, the templates and the generator jar, only worth it if generations may be skipped
+        final InputDigest inputs = configHelp || !(skipIfUnchanged || buildContext.isIncremental())
+                ? null : digestInputs(configurator);
+        final File digestFile = new File(output, ".swagger-codegen" + File.separator + "INPUTS");
+        if (inputs != null) {
+            if (isUpToDate(inputs, digestFile)) {
+                getLog().info("Inputs unchanged since the last generation, code generation is skipped.");
+                addCompileSourceRootIfConfigured();
+                return;
+            }
+            // a failed generation must not leave the digest of an earlier one
+            FileUtils.deleteQuietly(digestFile);
+        }
+
+        if (useDaemon && !configHelp && generateInDaemon(configurator)) {
+            generated(inputs, digestFile);
+            addCompileSourceRootIfConfigured();
+            return;
+        }
+
         final ClientOptInput input = configurator.toClientOptInput();
         final CodegenConfig config = input.getConfig();
 
@@ -541,9 +613,99 @@ public class CodeGenMojo extends AbstractMojo {
                     "Code generation failed. See above for the full exception.");
         }
 
+        generated(inputs, digestFile);
         addCompileSourceRootIfConfigured();
     }
 
+    private InputDigest digestInputs(CodegenConfigurator configurator) {
+        final CodegenConfig config;
+        try {
+            config = CodegenConfigLoader.forName(configurator.getLang());
+        } catch (RuntimeException e) {
+            // let the generation report the unknown language
+            return null;
+        }
+        return new InputDigest()
+                .put("pluginVersion", pluginVersion)
+                .putClassSource(config.getClass())
+                .put("configurator", configurator)
+                .put("configOptions", configOptions)
+                .put("generateApis", generateApis)
+                .put("generateModels", generateModels)
+                .put("modelsToGenerate", modelsToGenerate)
+                .put("generateSupportingFiles", generateSupportingFiles)
+                .put("supportingFilesToGenerate", supportingFilesToGenerate)
+                .put("generateModelTests", generateModelTests)
+                .put("generateModelDocumentation", generateModelDocumentation)
+                .put("generateApiTests", generateApiTests)
+                .put("generateApiDocumentation", generateApiDocumentation)
+                .put("withXml", withXml)
+                .putSpec(configurator.getInputSpec())
+                .putDirectory(templateDirectory)
+                .putInput(isNotEmpty(configurationFile) ? new File(configurationFile) : null)
+                .putInput(isNotEmpty(ignoreFileOverride) ? new File(ignoreFileOverride) : null);
+    }
+
+    private boolean isUpToDate(InputDigest inputs, File digestFile) {
+        if (!inputs.isComplete() || !digestFile.isFile()) {
+            return false;
+        }
+        try {
+            return inputs.hash().equals(FileUtils.readFileToString(digestFile, StandardCharsets.UTF_8).trim());
+        } catch (IOException e) {
+            getLog().debug("Could not read " + digestFile, e);
+            return false;
+        }
+    }
+
+    private void generated(InputDigest inputs, File digestFile) {
+        if (inputs != null && inputs.isComplete()) {
+            try {
+                FileUtils.writeStringToFile(digestFile, inputs.hash(), StandardCharsets.UTF_8);
+            } catch (IOException e) {
+                getLog().warn("Could not write " + digestFile + ", the next build will generate again", e);
+            }
+        }
+        // let IDEs pick up the generated files
+        buildContext.refresh(output);
+    }
+
+    /**
+     * @return false if no daemon is running or it can't run the generation, e.g. as it runs another version or can't
+     * load a custom generator of the build, so the generation must run in the build
+     */
+    private boolean generateInDaemon(CodegenConfigurator configurator) throws MojoExecutionException {
+        final DaemonClient client = DaemonClient.find();
+        if (client == null) {
+            getLog().info("No generator daemon running, generating in the build");
+            return false;
+        }
+        final Map<String, Object> options = new HashMap<>();
+        if (configOptions != null) {
+            for (Map.Entry<?, ?> option : configOptions.entrySet()) {
+                options.put(option.getKey().toString(), option.getValue());
+            }
+        }
+        final DaemonResponse response;
+        try {
+            response = client.generate(configurator, options);
+        } catch (IOException e) {
+            getLog().warn("Could not reach the generator daemon, generating in the build", e);
+            return false;
+        }
+        if (response.isUnsupported()) {
+            getLog().info("The generator daemon can't run this generation, " + response.getMessage() + ", generating in the build");
+            return false;
+        }
+        if (!response.isSuccess()) {
+            getLog().error(response.getMessage());
+            throw new MojoExecutionException(
+                    "Code generation failed in the generator daemon. See its log for the full exception.");
+        }
+        getLog().info("Generated " + response.getFiles() + " files in the generator daemon");
+        return true;
+    }
+
     private void addCompileSourceRootIfConfigured() {
         if (addCompileSourceRoot) {
             final Object sourceFolderObject =
@@ -555,16 +717,5 @@ public class CodeGenMojo extends AbstractMojo {
             String sourceJavaFolder = output.toString() + "/" + sourceFolder;
             project.addCompileSourceRoot(sourceJavaFolder);
         }
-
-        // Reset all environment variables to their original value. This prevents unexpected
-        // behaviour
-        // when running the plugin multiple consecutive times with different configurations.
-        for (Map.Entry<String, String> entry : originalEnvironmentVariables.entrySet()) {
-            if (entry.getValue() == null) {
-                System.clearProperty(entry.getKey());
-            } else {
-                System.setProperty(entry.getKey(), entry.getValue());
-            }
-        }
     }
 }
@@ -1,40 +1,97 @@
 package io.swagger.codegen;
 
-import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.io.OutputStreamWriter;
 import java.io.Reader;
 import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.Scanner;
 import java.util.regex.Pattern;
 
+import io.swagger.codegen.output.FileSystemOutputSink;
+import io.swagger.codegen.output.OutputSink;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 public abstract class AbstractGenerator {
     private static final Logger LOGGER = LoggerFactory.getLogger(AbstractGenerator.class);
+    private static final OutputSink FILE_SYSTEM_SINK = new FileSystemOutputSink(false);
+    private static final OutputSink SKIP_IDENTICAL_FILES_SINK = new FileSystemOutputSink(true);
 
-    @SuppressWarnings("static-method")
-    public File writeToFile(String filename, String contents) throws IOException {
-        LOGGER.info("writing file " + filename);
-        File output = new File(filename);
+    private boolean skipIdenticalFiles;
+    private OutputSink outputSink;
+
+    /**
+     * Only replace files whose content changed, so unchanged files keep their timestamp and don't trigger
+     * recompilation. Changed files are written to a temporary file first and moved in place.
+     * Only applies to files written to disk, see {@link #setOutputSink(OutputSink)}.
+     * @param skipIdenticalFiles true to leave files with identical content untouched
+     */
+    public void setSkipIdenticalFiles(boolean skipIdenticalFiles) {
+        this.skipIdenticalFiles = skipIdenticalFiles;
+    }
+
+    public boolean isSkipIdenticalFiles() {
+        return skipIdenticalFiles;
+    }
 
-        if (output.getParent() != null && !new File(output.getParent()).exists()) {
-            File parent = new File(output.getParent());
-            parent.mkdirs();
+    /**
+     * Write the generated files to the given sink instead of the output folder on disk.
+     * @param outputSink destination of the generated files, null to write them to disk
+     */
+    public void setOutputSink(OutputSink outputSink) {
+        this.outputSink = outputSink;
+    }
+
+    /**
+     * @return destination of the generated files
+     */
+    public OutputSink getOutputSink() {
+        if (outputSink != null) {
+            return outputSink;
         }
-        Writer out = new BufferedWriter(new OutputStreamWriter(
-                new FileOutputStream(output), "UTF-8"));
+        return skipIdenticalFiles ? SKIP_IDENTICAL_FILES_SINK : FILE_SYSTEM_SINK;
+    }
+
+    /**
+     * @return true if the generated files are written to the output folder on disk
+     */
+    public boolean isFileSystemOutput() {
+        return getOutputSink() instanceof FileSystemOutputSink;
+    }
+
+    /**
+     * Writes the contents of a file as it is produced, without holding the whole content in memory.
+     */
+    public interface ContentWriter {
+        void writeTo(Writer writer) throws IOException;
+    }
+
+    public File writeToFile(String filename, String contents) throws IOException {
+        return writeToFile(filename, contents.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Streams the contents to the file as UTF-8. With {@link #setSkipIdenticalFiles(boolean)}, the contents
+     * are streamed to a temporary file which replaces the file only if it differs.
+     *
+     * @param filename file to write
+     * @param contents writes the file contents
+     * @return the written file
+     * @throws IOException if the file can't be written
+     */
+    public File writeToFile(String filename, ContentWriter contents) throws IOException {
+        getOutputSink().write(filename, contents);
+        return new File(filename);
+    }
 
-        out.write(contents);
-        out.close();
-        return output;
+    public File writeToFile(String filename, byte[] contents) throws IOException {
+        getOutputSink().write(filename, contents);
+        return new File(filename);
     }
 
     public String readTemplate(String name) {
@@ -1,6 +1,7 @@
 package io.swagger.codegen;
 
 import io.swagger.codegen.auth.AuthParser;
+import io.swagger.codegen.output.OutputSink;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.parser.core.models.AuthorizationValue;
 
@@ -11,6 +12,11 @@ public class ClientOptInput {
     private ClientOpts opts;
     private OpenAPI openAPI;
     private List<AuthorizationValue> auths;
+    private int workers = 1;
+    private boolean incremental;
+    private boolean skipIdenticalFiles;
+    private GenerationContext generationContext = new GenerationContext();
+    private OutputSink outputSink;
 
     public ClientOptInput openAPI(OpenAPI openAPI) {
         this.setOpenAPI(openAPI);
@@ -27,6 +33,31 @@ public class ClientOptInput {
         return this;
     }
 
+    public ClientOptInput workers(int workers) {
+        this.setWorkers(workers);
+        return this;
+    }
+
+    public ClientOptInput incremental(boolean incremental) {
+        this.setIncremental(incremental);
+        return this;
+    }
+
+    public ClientOptInput skipIdenticalFiles(boolean skipIdenticalFiles) {
+        this.setSkipIdenticalFiles(skipIdenticalFiles);
+        return this;
+    }
+
+    public ClientOptInput generationContext(GenerationContext generationContext) {
+        this.setGenerationContext(generationContext);
+        return this;
+    }
+
+    public ClientOptInput outputSink(OutputSink outputSink) {
+        this.setOutputSink(outputSink);
+        return this;
+    }
+
     @Deprecated
     public ClientOptInput auth(String urlEncodedAuthString) {
         this.setAuth(urlEncodedAuthString);
@@ -71,4 +102,69 @@ public class ClientOptInput {
     public void setOpenAPI(OpenAPI openAPI) {
         this.openAPI = openAPI;
     }
-}
\ No newline at end of file
+
+    /**
+     * Number of worker threads used to render template files, 1 renders serially.
+     *
+     * @return number of render workers
+     */
+    public int getWorkers() {
+        return workers;
+    }
+
+    public void setWorkers(int workers) {
+        this.workers = workers;
+    }
+
+    /**
+     * Whether only files whose inputs changed since the last incremental generation are rendered.
+     *
+     * @return true for incremental generation
+     */
+    public boolean isIncremental() {
+        return incremental;
+    }
+
+    public void setIncremental(boolean incremental) {
+        this.incremental = incremental;
+    }
+
+    /**
+     * Whether files with identical content are left untouched instead of being rewritten.
+     *
+     * @return true to skip identical files
+     */
+    public boolean isSkipIdenticalFiles() {
+        return skipIdenticalFiles;
+    }
+
+    public void setSkipIdenticalFiles(boolean skipIdenticalFiles) {
+        this.skipIdenticalFiles = skipIdenticalFiles;
+    }
+
+    /**
+     * Switches of this generation, falling back to system properties for switches not set.
+     *
+     * @return generation context, never null
+     */
+    public GenerationContext getGenerationContext() {
+        return generationContext;
+    }
+
+    public void setGenerationContext(GenerationContext generationContext) {
+        this.generationContext = generationContext != null ? generationContext : new GenerationContext();
+    }
+
+    /**
+     * Destination of the generated files, null to write them to the output folder on disk.
+     *
+     * @return output sink
+     */
+    public OutputSink getOutputSink() {
+        return outputSink;
+    }
+
+    public void setOutputSink(OutputSink outputSink) {
+        this.outputSink = outputSink;
+    }
+}
@@ -5,6 +5,8 @@ import java.util.Map;
 import java.util.Set;
 
 import com.github.jknack.handlebars.Handlebars;
+import io.swagger.codegen.output.FileSystemOutputSink;
+import io.swagger.codegen.output.OutputSink;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
 import io.swagger.v3.oas.models.media.Schema;
@@ -175,6 +177,48 @@ public interface CodegenConfig {
 
     void setRemoveOperationIdPrefix(boolean removeOperationIdPrefix);
 
+    /**
+     * Whether fromModel and fromOperation (and the conversions they call) can be invoked
+     * concurrently from several threads for the same config.
+     *
+     * @return true if schemas and operations can be converted in parallel
+     */
+    boolean supportsConcurrentConversion();
+
+    /**
+     * Switches of the current generation, to be read instead of system properties.
+     *
+     * @return generation context
+     */
+    default GenerationContext getGenerationContext() {
+        return new GenerationContext();
+    }
+
+    default void setGenerationContext(GenerationContext generationContext) {
+    }
+
+    /**
+     * Destination of the files the codegen writes itself, e.g. a copy of the spec written in processOpenAPI, so they
+     * go wherever the generated files go.
+     *
+     * @return output sink of the current generation
+     */
+    default OutputSink getOutputSink() {
+        return new FileSystemOutputSink();
+    }
+
+    default void setOutputSink(OutputSink outputSink) {
+    }
+
+    /**
+     * Naming hooks of the codegen, memoized when {@link CodegenConstants#MEMOIZE_NAMES} is set.
+     *
+     * @return name cache
+     */
+    default NameCache getNameCache() {
+        return new NameCache(this);
+    }
+
     Map<String, String> supportedLibraries();
 
     void setLibrary(String library);
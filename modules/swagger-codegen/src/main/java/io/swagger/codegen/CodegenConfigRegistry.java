@@ -0,0 +1,245 @@
+package io.swagger.codegen;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.lang.ref.WeakReference;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.WeakHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Registry of the codegen configs available on the classpath, built once per class loader.
+ * <p>
+ * Names and types are read from <code>META-INF/swagger-codegen/codegen-index.properties</code> indexes
+ * without instantiating the configs; the index of a generator jar can be written at build time with
+ * {@link #main(String[])}. Configs registered in <code>META-INF/services/io.swagger.codegen.CodegenConfig</code>
+ * but missing from every index are instantiated once to read their name and type. After that, only the
+ * requested config is instantiated.
+ */
+public class CodegenConfigRegistry {
+    private static final Logger LOGGER = LoggerFactory.getLogger(CodegenConfigRegistry.class);
+
+    public static final String INDEX_RESOURCE = "META-INF/swagger-codegen/codegen-index.properties";
+    public static final String SERVICE_RESOURCE = "META-INF/services/" + CodegenConfig.class.getName();
+
+    private static final Map<ClassLoader, CodegenConfigRegistry> REGISTRIES = new WeakHashMap<>();
+
+    // weak, the registry is the value of its class loader key in REGISTRIES
+    private final WeakReference<ClassLoader> classLoader;
+    private final Map<String, Entry> entries;
+
+    CodegenConfigRegistry(ClassLoader classLoader) {
+        this.classLoader = new WeakReference<>(classLoader);
+        this.entries = Collections.unmodifiableMap(load(classLoader));
+    }
+
+    /**
+     * @return registry of the configs visible from the context class loader, like {@link java.util.ServiceLoader#load(Class)}
+     */
+    public static CodegenConfigRegistry getInstance() {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        if (classLoader == null) {
+            classLoader = CodegenConfigRegistry.class.getClassLoader();
+        }
+        synchronized (REGISTRIES) {
+            CodegenConfigRegistry registry = REGISTRIES.get(classLoader);
+            if (registry == null) {
+                registry = new CodegenConfigRegistry(classLoader);
+                REGISTRIES.put(classLoader, registry);
+            }
+            return registry;
+        }
+    }
+
+    /**
+     * @return registered configs, in classpath order
+     */
+    public List<Entry> getEntries() {
+        return new ArrayList<>(entries.values());
+    }
+
+    public List<String> getNames() {
+        return new ArrayList<>(entries.keySet());
+    }
+
+    public Entry get(String name) {
+        return entries.get(name);
+    }
+
+    /**
+     * @param name config name
+     * @return new instance of the config, or null if no config is registered with that name
+     */
+    public CodegenConfig newInstance(String name) {
+        final Entry entry = entries.get(name);
+        if (entry == null) {
+            return null;
+        }
+        final ClassLoader loader = classLoader.get();
+        if (loader == null) {
+            throw new IllegalStateException("The class loader of config class " + entry.className + " was discarded");
+        }
+        try {
+            return (CodegenConfig) Class.forName(entry.className, true, loader).newInstance();
+        } catch (Exception e) {
+            throw new RuntimeException("Can't instantiate config class " + entry.className + " for " + name, e);
+        }
+    }
+
+    private static Map<String, Entry> load(ClassLoader classLoader) {
+        final Map<String, Entry> entries = new LinkedHashMap<>();
+        final Set<String> indexedClasses = new HashSet<>();
+        for (URL url : getResources(classLoader, INDEX_RESOURCE)) {
+            final Properties index = new Properties();
+            try (InputStream in = url.openStream()) {
+                index.load(in);
+            } catch (IOException e) {
+                LOGGER.warn("Could not read codegen index " + url, e);
+                continue;
+            }
+            for (String name : new TreeSet<>(index.stringPropertyNames())) {
+                final String[] value = index.getProperty(name).split(",");
+                final Entry entry = new Entry(name, value[0].trim(), value.length > 1 ? CodegenType.valueOf(value[1].trim()) : CodegenType.OTHER);
+                indexedClasses.add(entry.className);
+                if (!entries.containsKey(name)) {
+                    entries.put(name, entry);
+                }
+            }
+        }
+        for (URL url : getResources(classLoader, SERVICE_RESOURCE)) {
+            for (String className : readServiceClasses(url)) {
+                if (!indexedClasses.add(className)) {
+                    continue;
+                }
+                try {
+                    final CodegenConfig config = (CodegenConfig) Class.forName(className, true, classLoader).newInstance();
+                    if (!entries.containsKey(config.getName())) {
+                        entries.put(config.getName(), new Entry(config.getName(), className, config.getTag()));
+                    }
+                } catch (Exception | LinkageError e) {
+                    LOGGER.warn("Could not load codegen config " + className, e);
+                }
+            }
+        }
+        return entries;
+    }
+
+    private static List<URL> getResources(ClassLoader classLoader, String name) {
+        try {
+            return Collections.list(classLoader.getResources(name));
+        } catch (IOException e) {
+            LOGGER.warn("Could not list " + name, e);
+            return Collections.emptyList();
+        }
+    }
+
+    private static List<String> readServiceClasses(URL url) {
+        final List<String> classNames = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(url.openStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                final int comment = line.indexOf('#');
+                final String className = (comment >= 0 ? line.substring(0, comment) : line).trim();
+                if (!className.isEmpty()) {
+                    classNames.add(className);
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Could not read " + url, e);
+        }
+        return classNames;
+    }
+
+    /**
+     * Writes an index of the given configs, in the format read by the registry.
+     *
+     * @param entries configs to index
+     * @param writer index output
+     * @throws IOException if the index can't be written
+     */
+    public static void writeIndex(List<Entry> entries, Writer writer) throws IOException {
+        final Properties index = new Properties();
+        for (Entry entry : entries) {
+            index.setProperty(entry.name, entry.className + "," + entry.type.name());
+        }
+        index.store(writer, "codegen configs by name: class,type");
+    }
+
+    /**
+     * Writes the index of the configs registered as services on the classpath, e.g. from a generator
+     * build: <code>java -cp ... io.swagger.codegen.CodegenConfigRegistry target/classes/META-INF/swagger-codegen/codegen-index.properties</code>
+     *
+     * @param args index file to write
+     * @throws IOException if the index can't be written
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.err.println("Usage: CodegenConfigRegistry <index file>");
+            System.exit(1);
+        }
+        final File file = new File(args[0]);
+        if (file.getParentFile() != null) {
+            file.getParentFile().mkdirs();
+        }
+        // ignore existing indexes, so the index always matches the registered services
+        final List<Entry> entries = new ArrayList<>();
+        final ClassLoader classLoader = CodegenConfigRegistry.class.getClassLoader();
+        final Set<String> names = new HashSet<>();
+        for (URL url : getResources(classLoader, SERVICE_RESOURCE)) {
+            for (String className : readServiceClasses(url)) {
+                try {
+                    final CodegenConfig config = (CodegenConfig) Class.forName(className, true, classLoader).newInstance();
+                    if (names.add(config.getName())) {
+                        entries.add(new Entry(config.getName(), className, config.getTag()));
+                    }
+                } catch (Exception e) {
+                    throw new IOException("Could not load codegen config " + className, e);
+                }
+            }
+        }
+        try (Writer writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+            writeIndex(entries, writer);
+        }
+    }
+
+    public static final class Entry {
+        private final String name;
+        private final String className;
+        private final CodegenType type;
+
+        Entry(String name, String className, CodegenType type) {
+            this.name = name;
+            this.className = className;
+            this.type = type != null ? type : CodegenType.OTHER;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getClassName() {
+            return className;
+        }
+
+        public CodegenType getType() {
+            return type;
+        }
+    }
+}
@@ -227,6 +227,9 @@ public class CodegenConstants {
     public static final String REMOVE_OPERATION_ID_PREFIX = "removeOperationIdPrefix";
     public static final String REMOVE_OPERATION_ID_PREFIX_DESC = "Remove prefix of operationId, e.g. config_getId => getId";
 
+    public static final String MEMOIZE_NAMES = "memoizeNames";
+    public static final String MEMOIZE_NAMES_DESC = "Memoize the names of models, variables, parameters and apis during the generation.";
+
     public static final String IS_ENUM_EXT_NAME = PREFIX_IS + "enum";
     public static final String IS_ALIAS_EXT_NAME = PREFIX_IS + "alias";
     public static final String IS_ARRAY_MODEL_EXT_NAME = PREFIX_IS + "array-model";
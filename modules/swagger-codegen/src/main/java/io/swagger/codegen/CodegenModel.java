@@ -1,10 +1,10 @@
 package io.swagger.codegen;
 
+import io.swagger.v3.core.util.Json;
 import io.swagger.v3.oas.models.ExternalDocumentation;
 import io.swagger.v3.oas.models.media.Discriminator;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -22,6 +22,7 @@ public class CodegenModel implements VendorExtendable {
     public List<CodegenModel> children;
 
     public String name, classname, title, description, classVarName, modelJson, dataType, xmlPrefix, xmlNamespace, xmlName;
+    private Object modelJsonSource; // modelJson is rendered lazily from this
     public String classFilename; // store the class file name, mainly used for import
     public String unescapedDescription;
     public Discriminator discriminator;
@@ -44,7 +45,7 @@ public class CodegenModel implements VendorExtendable {
     public boolean emptyVars;
     public ExternalDocumentation externalDocumentation;
 
-    public Map<String, Object> vendorExtensions = new HashMap<>();
+    public Map<String, Object> vendorExtensions = new VendorExtensionMap();
 
     //The type of the value from additional properties. Used in map like objects.
     public String additionalPropertiesType;
@@ -88,7 +89,7 @@ public class CodegenModel implements VendorExtendable {
             return false;
         if (classVarName != null ? !classVarName.equals(that.classVarName) : that.classVarName != null)
             return false;
-        if (modelJson != null ? !modelJson.equals(that.modelJson) : that.modelJson != null)
+        if (getModelJson() != null ? !getModelJson().equals(that.getModelJson()) : that.getModelJson() != null)
             return false;
         if (dataType != null ? !dataType.equals(that.dataType) : that.dataType != null)
             return false;
@@ -142,7 +143,7 @@ public class CodegenModel implements VendorExtendable {
         result = 31 * result + (title != null ? title.hashCode() : 0);
         result = 31 * result + (description != null ? description.hashCode() : 0);
         result = 31 * result + (classVarName != null ? classVarName.hashCode() : 0);
-        result = 31 * result + (modelJson != null ? modelJson.hashCode() : 0);
+        result = 31 * result + (getModelJson() != null ? getModelJson().hashCode() : 0);
         result = 31 * result + (dataType != null ? dataType.hashCode() : 0);
         result = 31 * result + (xmlPrefix != null ? xmlPrefix.hashCode() : 0);
         result = 31 * result + (xmlNamespace != null ? xmlNamespace.hashCode() : 0);
@@ -255,11 +256,26 @@ public class CodegenModel implements VendorExtendable {
     }
 
     public String getModelJson() {
+        if (modelJson == null && modelJsonSource != null) {
+            modelJson = Json.pretty(modelJsonSource);
+        }
         return modelJson;
     }
 
     public void setModelJson(String modelJson) {
         this.modelJson = modelJson;
+        this.modelJsonSource = null;
+    }
+
+    /**
+     * Sets the spec object {@link #getModelJson()} is rendered from. The JSON is pretty-printed on first
+     * access only, since few templates use it.
+     *
+     * @param modelJsonSource schema the JSON is rendered from
+     */
+    public void setModelJsonSource(Object modelJsonSource) {
+        this.modelJsonSource = modelJsonSource;
+        this.modelJson = null;
     }
 
     public String getDataType() {
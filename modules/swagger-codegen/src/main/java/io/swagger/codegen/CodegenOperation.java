@@ -8,8 +8,9 @@ import io.swagger.v3.oas.models.parameters.RequestBody;
 import io.swagger.v3.oas.models.tags.Tag;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -37,7 +38,7 @@ public class CodegenOperation implements VendorExtendable {
     public List<Map<String, String>> examples;
     public List<Map<String, String>> requestBodyExamples;
     public ExternalDocumentation externalDocs;
-    public Map<String, Object> vendorExtensions = new HashMap<>();
+    public Map<String, Object> vendorExtensions = new VendorExtensionMap();
     public String nickname; // legacy support
     public String operationIdLowerCase; // for markdown documentation
     public String operationIdCamelCase; // for class names
@@ -189,6 +190,109 @@ public class CodegenOperation implements VendorExtendable {
         return ("/{" + id + "}").equals(pathWithoutBaseName());
     }
 
+    /**
+     * Copies the operation, e.g. to add it to one more tag. Parameters, responses, headers, media types and vendor
+     * extensions are copied, so post-processors and templates may modify the copy; security methods are shared.
+     *
+     * @return copy of the operation
+     */
+    public CodegenOperation copy() {
+        CodegenOperation output = new CodegenOperation();
+        for (CodegenProperty header : this.responseHeaders) {
+            output.responseHeaders.add(header.clone());
+        }
+        output.returnTypeIsPrimitive = this.returnTypeIsPrimitive;
+        output.returnSimpleType = this.returnSimpleType;
+        output.subresourceOperation = this.subresourceOperation;
+        output.path = this.path;
+        output.operationId = this.operationId;
+        output.returnType = this.returnType;
+        output.httpMethod = this.httpMethod;
+        output.returnBaseType = this.returnBaseType;
+        output.returnContainer = this.returnContainer;
+        output.summary = this.summary;
+        output.unescapedNotes = this.unescapedNotes;
+        output.notes = this.notes;
+        output.baseName = this.baseName;
+        output.defaultResponse = this.defaultResponse;
+        output.discriminator = this.discriminator;
+        output.consumes = copyMaps(this.consumes);
+        output.produces = copyMaps(this.produces);
+        output.prioritizedContentTypes = copyMaps(this.prioritizedContentTypes);
+
+        // a parameter may be in several lists, e.g. the body parameter: its copy is too
+        Map<CodegenParameter, CodegenParameter> params = new IdentityHashMap<CodegenParameter, CodegenParameter>();
+        output.bodyParam = copyParam(this.bodyParam, params);
+        output.allParams = copyParams(this.allParams, params);
+        output.bodyParams = copyParams(this.bodyParams, params);
+        output.pathParams = copyParams(this.pathParams, params);
+        output.queryParams = copyParams(this.queryParams, params);
+        output.headerParams = copyParams(this.headerParams, params);
+        output.formParams = copyParams(this.formParams, params);
+        output.requiredParams = copyParams(this.requiredParams, params);
+
+        if (this.authMethods != null) {
+            output.authMethods = new ArrayList<CodegenSecurity>(this.authMethods);
+        }
+        if (this.tags != null) {
+            output.tags = new ArrayList<Tag>(this.tags);
+        }
+        if (this.responses != null) {
+            output.responses = new ArrayList<CodegenResponse>(this.responses.size());
+            for (CodegenResponse response : this.responses) {
+                output.responses.add(response.copy());
+            }
+        }
+        if (this.imports != null) {
+            output.imports = new HashSet<String>(this.imports);
+        }
+        output.examples = copyMaps(this.examples);
+        output.requestBodyExamples = copyMaps(this.requestBodyExamples);
+        output.externalDocs = this.externalDocs;
+        if (this.vendorExtensions != null) {
+            output.vendorExtensions = new VendorExtensionMap(this.vendorExtensions);
+        }
+        output.nickname = this.nickname;
+        output.operationIdLowerCase = this.operationIdLowerCase;
+        output.operationIdCamelCase = this.operationIdCamelCase;
+        output.operationIdSnakeCase = this.operationIdSnakeCase;
+        return output;
+    }
+
+    private static CodegenParameter copyParam(CodegenParameter param, Map<CodegenParameter, CodegenParameter> copies) {
+        if (param == null) {
+            return null;
+        }
+        CodegenParameter copy = copies.get(param);
+        if (copy == null) {
+            copy = param.copy();
+            copies.put(param, copy);
+        }
+        return copy;
+    }
+
+    private static List<CodegenParameter> copyParams(List<CodegenParameter> params, Map<CodegenParameter, CodegenParameter> copies) {
+        if (params == null) {
+            return null;
+        }
+        List<CodegenParameter> output = new ArrayList<CodegenParameter>(params.size());
+        for (CodegenParameter param : params) {
+            output.add(copyParam(param, copies));
+        }
+        return output;
+    }
+
+    private static List<Map<String, String>> copyMaps(List<Map<String, String>> maps) {
+        if (maps == null) {
+            return null;
+        }
+        List<Map<String, String>> output = new ArrayList<Map<String, String>>(maps.size());
+        for (Map<String, String> map : maps) {
+            output.add(map != null ? new LinkedHashMap<String, String>(map) : null);
+        }
+        return output;
+    }
+
     @Override
     public String toString() {
         return String.format("%s(%s)", baseName, path);
@@ -1,5 +1,7 @@
 package io.swagger.codegen;
 
+import io.swagger.v3.core.util.Json;
+
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
@@ -12,10 +14,11 @@ public class CodegenParameter implements VendorExtendable {
 
     public String example; // example value (x-example)
     public String jsonSchema;
+    private Object jsonSchemaSource; // jsonSchema is rendered lazily from this
     public List<String> _enum;
     public Map<String, Object> allowableValues;
     public CodegenProperty items;
-    public Map<String, Object> vendorExtensions = new HashMap<>();
+    public Map<String, Object> vendorExtensions = new VendorExtensionMap();
 
     /**
      * Determines whether this parameter is mandatory. If the parameter is in "path",
@@ -96,6 +99,7 @@ public class CodegenParameter implements VendorExtendable {
         output.uniqueItems = this.uniqueItems;
         output.multipleOf = this.multipleOf;
         output.jsonSchema = this.jsonSchema;
+        output.jsonSchemaSource = this.jsonSchemaSource;
         output.defaultValue = this.defaultValue;
         output.example = this.example;
         if (this._enum != null) {
@@ -108,7 +112,7 @@ public class CodegenParameter implements VendorExtendable {
             output.items = this.items;
         }
         if(this.vendorExtensions != null){
-            output.vendorExtensions = new HashMap<String, Object>(this.vendorExtensions);
+            output.vendorExtensions = new VendorExtensionMap(this.vendorExtensions);
         }
 
         return output;
@@ -152,7 +156,7 @@ public class CodegenParameter implements VendorExtendable {
             return false;
         if (example != null ? !example.equals(that.example) : that.example != null)
             return false;
-        if (jsonSchema != null ? !jsonSchema.equals(that.jsonSchema) : that.jsonSchema != null)
+        if (getJsonSchema() != null ? !getJsonSchema().equals(that.getJsonSchema()) : that.getJsonSchema() != null)
             return false;
         if (notFile != that.notFile)
             return false;
@@ -205,7 +209,7 @@ public class CodegenParameter implements VendorExtendable {
         result = 31 * result + (baseType != null ? baseType.hashCode() : 0);
         result = 31 * result + (defaultValue != null ? defaultValue.hashCode() : 0);
         result = 31 * result + (example != null ? example.hashCode() : 0);
-        result = 31 * result + (jsonSchema != null ? jsonSchema.hashCode() : 0);
+        result = 31 * result + (getJsonSchema() != null ? getJsonSchema().hashCode() : 0);
         result = 31 * result + (notFile ? 13:31);
         result = 31 * result + (_enum != null ? _enum.hashCode() : 0);
         result = 31 * result + (allowableValues != null ? allowableValues.hashCode() : 0);
@@ -279,9 +283,23 @@ public class CodegenParameter implements VendorExtendable {
     }
 
     public String getJsonSchema() {
+        if (jsonSchema == null && jsonSchemaSource != null) {
+            jsonSchema = Json.pretty(jsonSchemaSource);
+        }
         return jsonSchema;
     }
 
+    /**
+     * Sets the spec object {@link #getJsonSchema()} is rendered from. The JSON is pretty-printed on first
+     * access only, since few templates use it.
+     *
+     * @param jsonSchemaSource schema, property, parameter or response the JSON is rendered from
+     */
+    public void setJsonSchemaSource(Object jsonSchemaSource) {
+        this.jsonSchemaSource = jsonSchemaSource;
+        this.jsonSchema = null;
+    }
+
     public boolean getIsNotFile() {
         return notFile;
     }
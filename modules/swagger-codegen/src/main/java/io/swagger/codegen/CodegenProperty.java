@@ -1,5 +1,7 @@
 package io.swagger.codegen;
 
+import io.swagger.v3.core.util.Json;
+
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -32,6 +34,7 @@ public class CodegenProperty implements Cloneable, VendorExtendable {
     public String example;
 
     public String jsonSchema;
+    private Object jsonSchemaSource; // jsonSchema is rendered lazily from this
     public String minimum;
     public String maximum;
     public boolean exclusiveMinimum;
@@ -41,7 +44,7 @@ public class CodegenProperty implements Cloneable, VendorExtendable {
     public List<String> _enum;
     public Map<String, Object> allowableValues;
     public CodegenProperty items;
-    public Map<String, Object> vendorExtensions = new HashMap<>();
+    public Map<String, Object> vendorExtensions = new VendorExtensionMap();
     public String discriminatorValue;
 
     public String nameInCamelCase; // property name in camel case
@@ -225,11 +228,26 @@ public class CodegenProperty implements Cloneable, VendorExtendable {
     }
 
     public String getJsonSchema() {
+        if (jsonSchema == null && jsonSchemaSource != null) {
+            jsonSchema = Json.pretty(jsonSchemaSource);
+        }
         return jsonSchema;
     }
 
     public void setJsonSchema(String jsonSchema) {
         this.jsonSchema = jsonSchema;
+        this.jsonSchemaSource = null;
+    }
+
+    /**
+     * Sets the spec object {@link #getJsonSchema()} is rendered from. The JSON is pretty-printed on first
+     * access only, since few templates use it.
+     *
+     * @param jsonSchemaSource schema, property, parameter or response the JSON is rendered from
+     */
+    public void setJsonSchemaSource(Object jsonSchemaSource) {
+        this.jsonSchemaSource = jsonSchemaSource;
+        this.jsonSchema = null;
     }
 
     public String getMinimum() {
@@ -397,7 +415,7 @@ public class CodegenProperty implements Cloneable, VendorExtendable {
         result = prime * result + (exclusiveMinimum ? 13:31);
         result = prime * result + ((getter == null) ? 0 : getter.hashCode());
         result = prime * result + ((items == null) ? 0 : items.hashCode());
-        result = prime * result + ((jsonSchema == null) ? 0 : jsonSchema.hashCode());
+        result = prime * result + ((getJsonSchema() == null) ? 0 : getJsonSchema().hashCode());
         result = prime * result + ((max == null) ? 0 : max.hashCode());
         result = prime * result + ((maxLength == null) ? 0 : maxLength.hashCode());
         result = prime * result + ((maximum == null) ? 0 : maximum.hashCode());
@@ -487,7 +505,7 @@ public class CodegenProperty implements Cloneable, VendorExtendable {
         if ((this.example == null) ? (other.example != null) : !this.example.equals(other.example)) {
             return false;
         }
-        if ((this.jsonSchema == null) ? (other.jsonSchema != null) : !this.jsonSchema.equals(other.jsonSchema)) {
+        if ((this.getJsonSchema() == null) ? (other.getJsonSchema() != null) : !this.getJsonSchema().equals(other.getJsonSchema())) {
             return false;
         }
         if (this.minimum != other.minimum && (this.minimum == null || !this.minimum.equals(other.minimum))) {
@@ -556,7 +574,7 @@ public class CodegenProperty implements Cloneable, VendorExtendable {
                 cp.items = this.items;
             }
             if(this.vendorExtensions != null){
-                cp.vendorExtensions = new HashMap<String, Object>(this.vendorExtensions);
+                cp.vendorExtensions = new VendorExtensionMap(this.vendorExtensions);
             }
             return cp;
         } catch (CloneNotSupportedException e) {
@@ -1,5 +1,7 @@
 package io.swagger.codegen;
 
+import io.swagger.v3.core.util.Json;
+
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -12,8 +14,34 @@ public class CodegenResponse implements VendorExtendable {
     public String dataType, baseType, containerType;
     public Object schema;
     public String jsonSchema;
+    private Object jsonSchemaSource; // jsonSchema is rendered lazily from this
     public Map<String, Object> vendorExtensions = new HashMap<>();
 
+    public CodegenResponse copy() {
+        CodegenResponse output = new CodegenResponse();
+        for (CodegenProperty header : this.headers) {
+            output.headers.add(header.clone());
+        }
+        output.code = this.code;
+        output.message = this.message;
+        if (this.examples != null) {
+            output.examples = new ArrayList<Map<String, Object>>(this.examples.size());
+            for (Map<String, Object> example : this.examples) {
+                output.examples.add(example != null ? new HashMap<String, Object>(example) : null);
+            }
+        }
+        output.dataType = this.dataType;
+        output.baseType = this.baseType;
+        output.containerType = this.containerType;
+        output.schema = this.schema;
+        output.jsonSchema = this.jsonSchema;
+        output.jsonSchemaSource = this.jsonSchemaSource;
+        if (this.vendorExtensions != null) {
+            output.vendorExtensions = new HashMap<String, Object>(this.vendorExtensions);
+        }
+        return output;
+    }
+
     public boolean isWildcard() {
         return "0".equals(code) || "default".equals(code);
     }
@@ -48,7 +76,7 @@ public class CodegenResponse implements VendorExtendable {
             return false;
         if (vendorExtensions != null ? !vendorExtensions.equals(that.vendorExtensions) : that.vendorExtensions != null)
             return false;
-        return jsonSchema != null ? jsonSchema.equals(that.jsonSchema) : that.jsonSchema == null;
+        return getJsonSchema() != null ? getJsonSchema().equals(that.getJsonSchema()) : that.getJsonSchema() == null;
     }
 
     @Override
@@ -61,7 +89,7 @@ public class CodegenResponse implements VendorExtendable {
         result = 31 * result + (baseType != null ? baseType.hashCode() : 0);
         result = 31 * result + (containerType != null ? containerType.hashCode() : 0);
         result = 31 * result + (schema != null ? schema.hashCode() : 0);
-        result = 31 * result + (jsonSchema != null ? jsonSchema.hashCode() : 0);
+        result = 31 * result + (getJsonSchema() != null ? getJsonSchema().hashCode() : 0);
         result = 31 * result + (vendorExtensions != null ? vendorExtensions.hashCode() : 0);
         return result;
     }
@@ -99,9 +127,23 @@ public class CodegenResponse implements VendorExtendable {
     }
 
     public String getJsonSchema() {
+        if (jsonSchema == null && jsonSchemaSource != null) {
+            jsonSchema = Json.pretty(jsonSchemaSource);
+        }
         return jsonSchema;
     }
 
+    /**
+     * Sets the spec object {@link #getJsonSchema()} is rendered from. The JSON is pretty-printed on first
+     * access only, since few templates use it.
+     *
+     * @param jsonSchemaSource schema, property, parameter or response the JSON is rendered from
+     */
+    public void setJsonSchemaSource(Object jsonSchemaSource) {
+        this.jsonSchemaSource = jsonSchemaSource;
+        this.jsonSchema = null;
+    }
+
     @Override
     public Map<String, Object> getVendorExtensions() {
         return this.vendorExtensions;
@@ -0,0 +1,194 @@
+package io.swagger.codegen;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+
+import com.github.jknack.handlebars.Handlebars;
+import com.github.jknack.handlebars.Template;
+import com.github.jknack.handlebars.io.ClassPathTemplateLoader;
+import com.github.jknack.handlebars.io.TemplateLoader;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
+/**
+ * Process-wide cache of compiled handlebars templates.
+ * <p>
+ * Templates are keyed by template dir, library, template name and the codegen class registering the
+ * handlebars helpers, so the same compiled template can be reused across generate() calls and threads.
+ * The cache is bounded; its size can be set with the <code>codegen.templateCacheSize</code> system property.
+ * <p>
+ * Templates loaded from a directory rather than a jar, e.g. user supplied templates, are recompiled when the file's
+ * last-modified time changes, so long-running processes pick up edits. Partials are resolved when a template is
+ * applied and aren't cached.
+ */
+public class CompiledTemplateCache {
+    public static final String MAXIMUM_SIZE_PROPERTY = "codegen.templateCacheSize";
+    public static final long DEFAULT_MAXIMUM_SIZE = 2048;
+
+    private static final CompiledTemplateCache INSTANCE = new CompiledTemplateCache(Long.getLong(MAXIMUM_SIZE_PROPERTY, DEFAULT_MAXIMUM_SIZE));
+
+    private final Cache<TemplateKey, CompiledTemplate> templates;
+    private final Cache<HandlebarsKey, Handlebars> handlebars;
+
+    public CompiledTemplateCache(long maximumSize) {
+        this.templates = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+        this.handlebars = CacheBuilder.newBuilder()
+                .maximumSize(Math.max(1, maximumSize / 16))
+                .build();
+    }
+
+    public static CompiledTemplateCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the compiled template, compiling it on first access.
+     *
+     * @param config codegen config providing the template dir, library and handlebars helpers
+     * @param templateFile template file relative to the template dir, without the ".mustache" extension
+     * @return compiled template
+     * @throws IOException if the template can't be read or compiled
+     */
+    public Template get(final CodegenConfig config, final String templateFile) throws IOException {
+        final HandlebarsKey handlebarsKey = new HandlebarsKey(config.templateDir(), config.getClass());
+        final TemplateKey templateKey = new TemplateKey(handlebarsKey, config.getLibrary(), templateFile);
+        try {
+            CompiledTemplate compiled = templates.get(templateKey, () -> compile(handlebarsKey, config, templateFile));
+            if (compiled.isStale()) {
+                templates.asMap().remove(templateKey, compiled);
+                compiled = templates.get(templateKey, () -> compile(handlebarsKey, config, templateFile));
+            }
+            return compiled.template;
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new RuntimeException("Could not compile template '" + templateFile + "'", e.getCause());
+        }
+    }
+
+    private CompiledTemplate compile(HandlebarsKey key, CodegenConfig config, String templateFile) throws ExecutionException, IOException {
+        final Handlebars handlebars = getHandlebars(key, config);
+        // read the time stamp before compiling, an edit in between only causes another compilation
+        final File source = sourceFile(handlebars.getLoader(), templateFile);
+        final long lastModified = source != null ? source.lastModified() : 0L;
+        return new CompiledTemplate(handlebars.compile(templateFile), source, lastModified);
+    }
+
+    private static File sourceFile(TemplateLoader templateLoader, String templateFile) {
+        final URL url = ClassPathTemplateLoader.class.getResource(templateLoader.resolve(templateFile));
+        if (url == null || !"file".equals(url.getProtocol())) {
+            return null;
+        }
+        try {
+            return new File(url.toURI());
+        } catch (URISyntaxException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private Handlebars getHandlebars(HandlebarsKey key, CodegenConfig config) throws ExecutionException {
+        return handlebars.get(key, () -> {
+            final TemplateLoader templateLoader = new ClassPathTemplateLoader("/" + key.templateDir, ".mustache");
+            final Handlebars result = new Handlebars(templateLoader);
+            config.addHandlebarHelpers(result);
+            return result;
+        });
+    }
+
+    public void invalidateAll() {
+        templates.invalidateAll();
+        handlebars.invalidateAll();
+    }
+
+    public long size() {
+        return templates.size();
+    }
+
+    public CacheStats stats() {
+        return templates.stats();
+    }
+
+    private static class CompiledTemplate {
+        private final Template template;
+        private final File source;
+        private final long lastModified;
+
+        CompiledTemplate(Template template, File source, long lastModified) {
+            this.template = template;
+            this.source = source;
+            this.lastModified = lastModified;
+        }
+
+        boolean isStale() {
+            return source != null && source.lastModified() != lastModified;
+        }
+    }
+
+    private static class HandlebarsKey {
+        private final String templateDir;
+        private final Class<?> helperSet;
+
+        HandlebarsKey(String templateDir, Class<?> helperSet) {
+            this.templateDir = templateDir;
+            this.helperSet = helperSet;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            HandlebarsKey that = (HandlebarsKey) o;
+            return Objects.equals(templateDir, that.templateDir) && Objects.equals(helperSet, that.helperSet);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(templateDir, helperSet);
+        }
+    }
+
+    private static class TemplateKey {
+        private final HandlebarsKey handlebars;
+        private final String library;
+        private final String templateFile;
+
+        TemplateKey(HandlebarsKey handlebars, String library, String templateFile) {
+            this.handlebars = handlebars;
+            this.library = library;
+            this.templateFile = templateFile;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            TemplateKey that = (TemplateKey) o;
+            return Objects.equals(handlebars, that.handlebars)
+                    && Objects.equals(library, that.library)
+                    && Objects.equals(templateFile, that.templateFile);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(handlebars, library, templateFile);
+        }
+    }
+}
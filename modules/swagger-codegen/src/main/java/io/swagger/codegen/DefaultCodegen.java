@@ -1,11 +1,15 @@
 package io.swagger.codegen;
 
 import com.github.jknack.handlebars.Handlebars;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.samskivert.mustache.Mustache.Compiler;
 import io.swagger.codegen.languages.helpers.HasHelper;
 import io.swagger.codegen.languages.helpers.HasNotHelper;
 import io.swagger.codegen.languages.helpers.IsHelper;
 import io.swagger.codegen.languages.helpers.IsNotHelper;
+import io.swagger.codegen.output.FileSystemOutputSink;
+import io.swagger.codegen.output.OutputSink;
 import io.swagger.codegen.utils.ModelUtils;
 import io.swagger.v3.core.util.Json;
 import io.swagger.v3.oas.models.OpenAPI;
@@ -46,7 +50,6 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import java.io.File;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -57,9 +60,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 import static io.swagger.codegen.CodegenConstants.HAS_ONLY_READ_ONLY_EXT_NAME;
 import static io.swagger.codegen.CodegenConstants.HAS_OPTIONAL_EXT_NAME;
@@ -80,6 +83,18 @@ public class DefaultCodegen implements CodegenConfig {
     public static final String DEFAULT_CONTENT_TYPE = "application/json";
     public static final String REQUEST_BODY_NAME = "body";
 
+    // names are camelized and underscored over and over, e.g. for the variable, getter and setter of each property
+    private static final int NAME_CACHE_SIZE = 10000;
+    private static final Cache<String, String> CAMELIZED_NAMES = CacheBuilder.newBuilder().maximumSize(NAME_CACHE_SIZE).build();
+    private static final Cache<String, String> LOWER_CAMELIZED_NAMES = CacheBuilder.newBuilder().maximumSize(NAME_CACHE_SIZE).build();
+    private static final Cache<String, String> UNDERSCORED_NAMES = CacheBuilder.newBuilder().maximumSize(NAME_CACHE_SIZE).build();
+    private static final Pattern CAMELIZE_SLASH_PATTERN = Pattern.compile("\\/(.?)");
+    private static final Pattern CAMELIZE_CLASS_NAME_PATTERN = Pattern.compile("(\\.?)(\\w)([^\\.]*)$");
+    private static final Pattern CAMELIZE_UNDERSCORE_PATTERN = Pattern.compile("(_)(.)");
+    private static final Pattern CAMELIZE_HYPHEN_PATTERN = Pattern.compile("(-)(.)");
+    private static final Pattern UNICODE_NON_WORD_PATTERN = Pattern.compile("\\W", Pattern.UNICODE_CHARACTER_CLASS);
+    private static final Map<String, Pattern> NON_NAME_ELEMENT_PATTERNS = new ConcurrentHashMap<String, Pattern>();
+
     protected String inputSpec;
     protected String outputFolder = "";
     protected Set<String> defaultIncludes = new HashSet<String>();
@@ -110,6 +125,11 @@ public class DefaultCodegen implements CodegenConfig {
     protected boolean removeOperationIdPrefix;
     protected boolean supportsInheritance;
     protected boolean supportsMixins;
+    // fromModel/fromOperation overrides may only use thread-safe state when set
+    protected boolean supportsConcurrentConversion;
+    protected GenerationContext generationContext = new GenerationContext();
+    protected OutputSink outputSink = new FileSystemOutputSink();
+    protected final NameCache nameCache = new NameCache(this);
     protected Map<String, String> supportedLibraries = new LinkedHashMap<String, String>();
     protected String library;
     protected Boolean sortParamsByRequiredFlag = true;
@@ -123,7 +143,9 @@ public class DefaultCodegen implements CodegenConfig {
     // Then translated back during JSON encoding and decoding
     protected Map<String, String> specialCharReplacements = new HashMap<String, String>();
     // When a model is an alias for a simple type
-    protected Map<String, String> typeAliases = null;
+    protected volatile Map<String, String> typeAliases = null;
+    // models converted for lookups of the operations, e.g. of the discriminator of return types, by schema name
+    private final Map<String, LookupModel> lookupModels = new ConcurrentHashMap<String, LookupModel>();
 
     protected String ignoreFilePathOverride;
 
@@ -132,6 +154,10 @@ public class DefaultCodegen implements CodegenConfig {
     }
 
     public void processOpts() {
+        lookupModels.clear();
+        nameCache.setEnabled(additionalProperties.containsKey(CodegenConstants.MEMOIZE_NAMES)
+                && Boolean.valueOf(additionalProperties.get(CodegenConstants.MEMOIZE_NAMES).toString()));
+
         if (additionalProperties.containsKey(CodegenConstants.TEMPLATE_DIR)) {
             this.setTemplateDir((String) additionalProperties.get(CodegenConstants.TEMPLATE_DIR));
         }
@@ -184,7 +210,7 @@ public class DefaultCodegen implements CodegenConfig {
             // Index all CodegenModels by model name.
             Map<String, CodegenModel> allModels = new HashMap<>();
             for (Map.Entry<String, Object> entry : processedModels.entrySet()) {
-                String modelName = toModelName(entry.getKey());
+                String modelName = nameCache.toModelName(entry.getKey());
                 Map<String, Object> inner = (Map<String, Object>) entry.getValue();
                 List<Map<String, Object>> models = (List<Map<String, Object>>) inner.get("models");
                 for (Map<String, Object> mo : models) {
@@ -544,7 +570,7 @@ public class DefaultCodegen implements CodegenConfig {
      * @return the file name of the Api
      */
     public String toApiFilename(String name) {
-        return toApiName(name);
+        return nameCache.toApiName(name);
     }
 
     /**
@@ -554,7 +580,7 @@ public class DefaultCodegen implements CodegenConfig {
      * @return the file name of the Api
      */
     public String toApiDocFilename(String name) {
-        return toApiName(name);
+        return nameCache.toApiName(name);
     }
 
     /**
@@ -564,7 +590,7 @@ public class DefaultCodegen implements CodegenConfig {
      * @return the file name of the Api
      */
     public String toApiTestFilename(String name) {
-        return toApiName(name) + "Test";
+        return nameCache.toApiName(name) + "Test";
     }
 
     /**
@@ -735,6 +761,8 @@ public class DefaultCodegen implements CodegenConfig {
         // name formatting options
         cliOptions.add(CliOption.newBoolean(CodegenConstants.ALLOW_UNICODE_IDENTIFIERS, CodegenConstants
                 .ALLOW_UNICODE_IDENTIFIERS_DESC).defaultValue(Boolean.FALSE.toString()));
+        cliOptions.add(CliOption.newBoolean(CodegenConstants.MEMOIZE_NAMES, CodegenConstants
+                .MEMOIZE_NAMES_DESC).defaultValue(Boolean.FALSE.toString()));
 
         // initialize special character mapping
         initalizeSpecialCharacterMapping(specialCharReplacements);
@@ -1088,7 +1116,11 @@ public class DefaultCodegen implements CodegenConfig {
     public CodegenModel fromModel(String name, Schema schema, Map<String, Schema> allDefinitions) {
         if (typeAliases == null) {
             // Only do this once during first call
-            typeAliases = getAllAliases(allDefinitions);
+            synchronized (this) {
+                if (typeAliases == null) {
+                    typeAliases = getAllAliases(allDefinitions);
+                }
+            }
         }
         final CodegenModel codegenModel = CodegenModelFactory.newInstance(CodegenModelType.MODEL);
         if (reservedWords.contains(name)) {
@@ -1099,10 +1131,10 @@ public class DefaultCodegen implements CodegenConfig {
         codegenModel.title = escapeText(schema.getTitle());
         codegenModel.description = escapeText(schema.getDescription());
         codegenModel.unescapedDescription = schema.getDescription();
-        codegenModel.classname = toModelName(name);
-        codegenModel.classVarName = toVarName(name);
-        codegenModel.classFilename = toModelFilename(name);
-        codegenModel.modelJson = Json.pretty(schema);
+        codegenModel.classname = nameCache.toModelName(name);
+        codegenModel.classVarName = nameCache.toVarName(name);
+        codegenModel.classFilename = nameCache.toModelFilename(name);
+        codegenModel.setModelJsonSource(schema);
         codegenModel.externalDocumentation = schema.getExternalDocs();
         if (schema.getExtensions() != null && !schema.getExtensions().isEmpty()) {
             codegenModel.getVendorExtensions().putAll(schema.getExtensions());
@@ -1172,7 +1204,7 @@ public class DefaultCodegen implements CodegenConfig {
                     if (allDefinitions != null) {
                         refSchema = allDefinitions.get(ref);
                     }
-                    final String modelName = toModelName(ref);
+                    final String modelName = nameCache.toModelName(ref);
                     codegenModel.interfaces.add(modelName);
                     addImport(codegenModel, modelName);
                     if (allDefinitions != null && refSchema != null) {
@@ -1221,6 +1253,25 @@ public class DefaultCodegen implements CodegenConfig {
         return codegenModel;
     }
 
+    /**
+     * Converts a schema to read some of its model properties, e.g. its discriminator. The model converted for the
+     * schema earlier in the generation is reused, so callers must not modify the model, nor hand it to templates.
+     *
+     * @param name the name of the model
+     * @param schema Swagger Model object
+     * @param allDefinitions a map of all Swagger models from the spec
+     * @return Codegen Model object, shared with other lookups of the schema
+     */
+    protected CodegenModel lookupModel(String name, Schema schema, Map<String, Schema> allDefinitions) {
+        LookupModel lookup = lookupModels.get(name);
+        if (lookup == null || lookup.schema != schema || lookup.allDefinitions != allDefinitions) {
+            // not computeIfAbsent: the conversion may look up other models
+            lookup = new LookupModel(schema, allDefinitions, fromModel(name, schema, allDefinitions));
+            lookupModels.put(name, lookup);
+        }
+        return lookup.model;
+    }
+
     /**
      * Recursively look for a discriminator in the interface tree
      */
@@ -1281,7 +1332,7 @@ public class DefaultCodegen implements CodegenConfig {
         if (name == null || name.length() == 0) {
             return name;
         }
-        return camelize(toVarName(name));
+        return camelize(nameCache.toVarName(name));
     }
 
     /**
@@ -1299,7 +1350,7 @@ public class DefaultCodegen implements CodegenConfig {
         }
 
         final CodegenProperty codegenProperty = CodegenModelFactory.newInstance(CodegenModelType.PROPERTY);
-        codegenProperty.name = toVarName(name);
+        codegenProperty.name = nameCache.toVarName(name);
         codegenProperty.baseName = name;
         codegenProperty.nameInCamelCase = camelize(codegenProperty.name, false);
         codegenProperty.description = escapeText(propertySchema.getDescription());
@@ -1313,7 +1364,7 @@ public class DefaultCodegen implements CodegenConfig {
         }
         codegenProperty.defaultValue = toDefaultValue(propertySchema);
         codegenProperty.defaultValueWithParam = toDefaultValueWithParam(name, propertySchema);
-        codegenProperty.jsonSchema = Json.pretty(propertySchema);
+        codegenProperty.setJsonSchemaSource(propertySchema);
         if (propertySchema.getReadOnly() != null) {
             codegenProperty.getVendorExtensions().put(CodegenConstants.IS_READ_ONLY_EXT_NAME, propertySchema.getReadOnly());
         }
@@ -1818,7 +1869,7 @@ public class DefaultCodegen implements CodegenConfig {
                     if (schemas != null) {
                         Schema schemaDefinition = schemas.get(codegenOperation.returnBaseType);
                         if (schemaDefinition != null) {
-                            CodegenModel cmod = fromModel(codegenOperation.returnBaseType, schemaDefinition, schemas);
+                            CodegenModel cmod = lookupModel(codegenOperation.returnBaseType, schemaDefinition, schemas);
                             codegenOperation.discriminator = cmod.discriminator;
                         }
                     }
@@ -1980,7 +2031,7 @@ public class DefaultCodegen implements CodegenConfig {
         codegenResponse.schema = responseSchema;
         codegenResponse.message = escapeText(response.getDescription());
         // TODO: codegenResponse.examples = toExamples(response.getExamples());
-        codegenResponse.jsonSchema = Json.pretty(response);
+        codegenResponse.setJsonSchemaSource(response);
         if (response.getExtensions() != null && !response.getExtensions().isEmpty()) {
             codegenResponse.vendorExtensions.putAll(response.getExtensions());
         }
@@ -2071,9 +2122,9 @@ public class DefaultCodegen implements CodegenConfig {
         if (parameter.getRequired() != null) {
             codegenParameter.required = parameter.getRequired();
         }
-        codegenParameter.jsonSchema = Json.pretty(parameter);
+        codegenParameter.setJsonSchemaSource(parameter);
 
-        if (System.getProperty("debugParser") != null) {
+        if (generationContext.isSet("debugParser")) {
             LOGGER.info("working on Parameter " + parameter.getName());
         }
 
@@ -2161,7 +2212,7 @@ public class DefaultCodegen implements CodegenConfig {
             if(collectionFormat != null && collectionFormat.equals("multi")) {
                 codegenParameter.getVendorExtensions().put(CodegenConstants.IS_COLLECTION_FORMAT_MULTI_EXT_NAME, Boolean.TRUE);
             }
-            codegenParameter.paramName = toParamName(parameter.getName());
+            codegenParameter.paramName = nameCache.toParamName(parameter.getName());
 
             // import
             if (codegenProperty.complexType != null) {
@@ -2284,7 +2335,7 @@ public class DefaultCodegen implements CodegenConfig {
             CodegenModel codegenModel = null;
             if (StringUtils.isNotBlank(name)) {
                 schema.setName(name);
-                codegenModel = fromModel(name, schema, schemas);
+                codegenModel = lookupModel(name, schema, schemas);
             }
             if (codegenModel != null && !codegenModel.emptyVars) {
                 codegenParameter.paramName = codegenModel.classname.toLowerCase();
@@ -2616,21 +2667,45 @@ public class DefaultCodegen implements CodegenConfig {
      * @return The underscored version of the word
      */
     public static String underscore(String word) {
-        String firstPattern = "([A-Z]+)([A-Z][a-z])";
-        String secondPattern = "([a-z\\d])([A-Z])";
-        String replacementPattern = "$1_$2";
-        // Replace package separator with slash.
-        word = word.replaceAll("\\.", "/"); // FIXME: a parameter should not be assigned. Also declare the methods parameters as 'final'.
-        // Replace $ with two underscores for inner classes.
-        word = word.replaceAll("\\$", "__");
-        // Replace capital letter with _ plus lowercase letter.
-        word = word.replaceAll(firstPattern, replacementPattern);
-        word = word.replaceAll(secondPattern, replacementPattern);
-        word = word.replace('-', '_');
-        // replace space with underscore
-        word = word.replace(' ', '_');
-        word = word.toLowerCase();
-        return word;
+        String underscored = UNDERSCORED_NAMES.getIfPresent(word);
+        if (underscored == null) {
+            underscored = underscoreName(word);
+            UNDERSCORED_NAMES.put(word, underscored);
+        }
+        return underscored;
+    }
+
+    private static String underscoreName(String word) {
+        final int length = word.length();
+        final StringBuilder sb = new StringBuilder(length + 8);
+        for (int i = 0; i < length; i++) {
+            final char c = word.charAt(i);
+            switch (c) {
+                case '.':
+                    // Replace package separator with slash.
+                    sb.append('/');
+                    break;
+                case '$':
+                    // Replace $ with two underscores for inner classes.
+                    sb.append("__");
+                    break;
+                case '-':
+                case ' ':
+                    sb.append('_');
+                    break;
+                default:
+                    // Separate words with an underscore: "fooBar" => "foo_Bar", "FOOBar" => "FOO_Bar"
+                    if (isAsciiUpperCase(c) && i > 0) {
+                        final char previous = word.charAt(i - 1);
+                        if (isAsciiLowerCase(previous) || isAsciiDigit(previous)
+                                || isAsciiUpperCase(previous) && i + 1 < length && isAsciiLowerCase(word.charAt(i + 1))) {
+                            sb.append('_');
+                        }
+                    }
+                    sb.append(c);
+            }
+        }
+        return sb.toString().toLowerCase();
     }
 
     /**
@@ -2641,7 +2716,8 @@ public class DefaultCodegen implements CodegenConfig {
      */
     @SuppressWarnings("static-method")
     protected String dashize(String word) {
-        return underscore(word).replaceAll("[_ ]", "-");
+        // underscored words have no spaces left
+        return underscore(word).replace('_', '-');
     }
 
     /**
@@ -2655,12 +2731,13 @@ public class DefaultCodegen implements CodegenConfig {
      * @return The next name for the base name
      */
     private static String generateNextName(String name) {
-        Pattern pattern = Pattern.compile("\\d+\\z");
-        Matcher matcher = pattern.matcher(name);
-        if (matcher.find()) {
-            String numStr = matcher.group();
-            int num = Integer.parseInt(numStr) + 1;
-            return name.substring(0, name.length() - numStr.length()) + num;
+        int start = name.length();
+        while (start > 0 && isAsciiDigit(name.charAt(start - 1))) {
+            start--;
+        }
+        if (start < name.length()) {
+            int num = Integer.parseInt(name.substring(start)) + 1;
+            return name.substring(0, start) + num;
         } else {
             return name + "2";
         }
@@ -2813,9 +2890,16 @@ public class DefaultCodegen implements CodegenConfig {
      * @return camelized string
      */
     protected String removeNonNameElementToCamelCase(final String name, final String nonNameElementPattern) {
-        String result = Arrays.stream(name.split(nonNameElementPattern))
-                .map(StringUtils::capitalize)
-                .collect(Collectors.joining(""));
+        Pattern pattern = NON_NAME_ELEMENT_PATTERNS.get(nonNameElementPattern);
+        if (pattern == null) {
+            pattern = Pattern.compile(nonNameElementPattern);
+            NON_NAME_ELEMENT_PATTERNS.put(nonNameElementPattern, pattern);
+        }
+        StringBuilder sb = new StringBuilder(name.length());
+        for (String element : pattern.split(name)) {
+            sb.append(StringUtils.capitalize(element));
+        }
+        String result = sb.toString();
         if (result.length() > 0) {
             result = result.substring(0, 1).toLowerCase() + result.substring(1);
         }
@@ -2842,8 +2926,126 @@ public class DefaultCodegen implements CodegenConfig {
      * @return camelized string
      */
     public static String camelize(String word, boolean lowercaseFirstLetter) {
+        final Cache<String, String> cache = lowercaseFirstLetter ? LOWER_CAMELIZED_NAMES : CAMELIZED_NAMES;
+        String camelized = cache.getIfPresent(word);
+        if (camelized == null) {
+            camelized = camelizeName(word);
+            if (camelized == null) {
+                camelized = camelizeWithPatterns(word);
+            }
+            if (lowercaseFirstLetter && camelized.length() > 0) {
+                camelized = camelized.substring(0, 1).toLowerCase() + camelized.substring(1);
+            }
+            cache.put(word, camelized);
+        }
+        return camelized;
+    }
+
+    /**
+     * Camelizes the word in a few passes over its characters; the output is the one of {@link #camelizeWithPatterns}.
+     *
+     * @param word string to be camelized
+     * @return camelized string, with upper case for first letter, or null if the word needs the patterns: the
+     * replacements of the patterns interpret backslashes and some dollar signs, and they stop at line terminators
+     */
+    private static String camelizeName(String word) {
+        final int length = word.length();
+        for (int i = 0; i < length; i++) {
+            final char c = word.charAt(i);
+            if (c == '\\' || c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029'
+                    || c == '/' && i + 1 < length && word.charAt(i + 1) == '$') {
+                return null;
+            }
+        }
+
+        // Drop slashes and dots (package separators), upper case the first letter of each package
+        StringBuilder sb = new StringBuilder(length);
+        boolean packageStart = true;
+        for (int i = 0; i < length; i++) {
+            final char c = word.charAt(i);
+            if (c == '/' || c == '.') {
+                packageStart = true;
+            } else {
+                sb.append(packageStart ? Character.toUpperCase(c) : c);
+                packageStart = false;
+            }
+        }
+
+        // Uppercase the class name.
+        for (int i = 0; i < sb.length(); i++) {
+            final char c = sb.charAt(i);
+            if (isAsciiWordChar(c)) {
+                if (isAsciiLowerCase(c)) {
+                    sb.replace(i, i + 1, String.valueOf(c).toUpperCase());
+                }
+                break;
+            }
+        }
+
+        // Remove all underscores (underscore_case to camelCase)
+        String s = sb.toString();
+        sb = new StringBuilder(s.length());
+        for (int i = 0; i < s.length(); ) {
+            final char c = s.charAt(i);
+            if (c == '_' && i + 1 < s.length()) {
+                if (s.charAt(i + 1) == '_') {
+                    i++;
+                } else {
+                    i += 1 + appendUpperCase(sb, s, i + 1);
+                }
+            } else {
+                sb.append(c);
+                i++;
+            }
+        }
+
+        // Remove all hyphens (hyphen-case to camelCase)
+        s = sb.toString();
+        sb = new StringBuilder(s.length());
+        for (int i = 0; i < s.length(); ) {
+            final char c = s.charAt(i);
+            if (c == '-' && i + 1 < s.length()) {
+                if (s.charAt(i + 1) == '-') {
+                    i++;
+                } else if (s.charAt(i + 1) == '$') {
+                    return null;
+                } else {
+                    i += 1 + appendUpperCase(sb, s, i + 1);
+                }
+            } else {
+                sb.append(c);
+                i++;
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Appends the upper case of the code point at the index, the way {@link String#toUpperCase()} does.
+     *
+     * @return number of chars of the code point
+     */
+    private static int appendUpperCase(StringBuilder sb, String s, int index) {
+        final char c = s.charAt(index);
+        // only the dotted i of the ascii chars is upper cased depending on the locale
+        if (c < 128 && c != 'i') {
+            sb.append(Character.toUpperCase(c));
+            return 1;
+        }
+        final int count = Character.charCount(s.codePointAt(index));
+        sb.append(s.substring(index, index + count).toUpperCase());
+        return count;
+    }
+
+    /**
+     * Camelize name (parameter, property, method, etc) with upper case for first letter, with regular expressions.
+     *
+     * @param word string to be camelize
+     * @return camelized string
+     */
+    private static String camelizeWithPatterns(String word) {
         // Replace all slashes with dots (package separator)
-        Pattern p = Pattern.compile("\\/(.?)");
+        Pattern p = CAMELIZE_SLASH_PATTERN;
         Matcher m = p.matcher(word);
         while (m.find()) {
             word = m.replaceFirst("." + m.group(1)/*.toUpperCase()*/); // FIXME: a parameter should not be assigned. Also declare the methods parameters as 'final'.
@@ -2867,7 +3069,7 @@ public class DefaultCodegen implements CodegenConfig {
         }
 
         // Uppercase the class name.
-        p = Pattern.compile("(\\.?)(\\w)([^\\.]*)$");
+        p = CAMELIZE_CLASS_NAME_PATTERN;
         m = p.matcher(word);
         if (m.find()) {
             String rep = m.group(1) + m.group(2).toUpperCase() + m.group(3);
@@ -2876,7 +3078,7 @@ public class DefaultCodegen implements CodegenConfig {
         }
 
         // Remove all underscores (underscore_case to camelCase)
-        p = Pattern.compile("(_)(.)");
+        p = CAMELIZE_UNDERSCORE_PATTERN;
         m = p.matcher(word);
         while (m.find()) {
             String original = m.group(2);
@@ -2890,17 +3092,13 @@ public class DefaultCodegen implements CodegenConfig {
         }
 
         // Remove all hyphens (hyphen-case to camelCase)
-        p = Pattern.compile("(-)(.)");
+        p = CAMELIZE_HYPHEN_PATTERN;
         m = p.matcher(word);
         while (m.find()) {
             word = m.replaceFirst(m.group(2).toUpperCase());
             m = p.matcher(word);
         }
 
-        if (lowercaseFirstLetter && word.length() > 0) {
-            word = word.substring(0, 1).toLowerCase() + word.substring(1);
-        }
-
         return word;
     }
 
@@ -2955,6 +3153,36 @@ public class DefaultCodegen implements CodegenConfig {
         this.removeOperationIdPrefix = removeOperationIdPrefix;
     }
 
+    @Override
+    public boolean supportsConcurrentConversion() {
+        return supportsConcurrentConversion;
+    }
+
+    @Override
+    public GenerationContext getGenerationContext() {
+        return generationContext;
+    }
+
+    @Override
+    public NameCache getNameCache() {
+        return nameCache;
+    }
+
+    @Override
+    public void setGenerationContext(GenerationContext generationContext) {
+        this.generationContext = generationContext;
+    }
+
+    @Override
+    public OutputSink getOutputSink() {
+        return outputSink;
+    }
+
+    @Override
+    public void setOutputSink(OutputSink outputSink) {
+        this.outputSink = outputSink;
+    }
+
     /**
      * All library templates supported.
      * (key: library name, value: library description)
@@ -3082,10 +3310,8 @@ public class DefaultCodegen implements CodegenConfig {
      */
     @SuppressWarnings("static-method")
     public String sanitizeName(String name) {
-        // NOTE: performance wise, we should have written with 2 replaceAll to replace desired
-        // character with _ or empty character. Below aims to spell out different cases we've
-        // encountered so far and hopefully make it easier for others to add more special
-        // cases in the future.
+        // NOTE: the cases below are spelled out in a single pass over the name, to make it easier
+        // for others to add more special cases in the future.
 
         // better error handling when map/array type is invalid
         if (name == null) {
@@ -3098,36 +3324,41 @@ public class DefaultCodegen implements CodegenConfig {
             return "value";
         }
 
-        // input[] => input
-        name = name.replaceAll("\\[\\]", ""); // FIXME: a parameter should not be assigned. Also declare the methods parameters as 'final'.
-
-        // input[a][b] => input_a_b
-        name = name.replaceAll("\\[", "_");
-        name = name.replaceAll("\\]", "");
-
-        // input(a)(b) => input_a_b
-        name = name.replaceAll("\\(", "_");
-        name = name.replaceAll("\\)", "");
-
-        // input.name => input_name
-        name = name.replaceAll("\\.", "_");
-
-        // input-name => input_name
-        name = name.replaceAll("-", "_");
-
-        // input name and age => input_name_and_age
-        name = name.replaceAll(" ", "_");
-
-        // remove everything else other than word, number and _
-        // $php_variable => php_variable
-        if (allowUnicodeIdentifiers) { //could be converted to a single line with ?: operator
-            name = Pattern.compile("\\W", Pattern.UNICODE_CHARACTER_CLASS).matcher(name).replaceAll("");
+        final int length = name.length();
+        final StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            final char c = name.charAt(i);
+            switch (c) {
+                case '[':
+                    if (i + 1 < length && name.charAt(i + 1) == ']') {
+                        // input[] => input
+                        i++;
+                    } else {
+                        // input[a][b] => input_a_b
+                        sb.append('_');
+                    }
+                    break;
+                case ']':
+                case ')':
+                    break;
+                case '(': // input(a)(b) => input_a_b
+                case '.': // input.name => input_name
+                case '-': // input-name => input_name
+                case ' ': // input name and age => input_name_and_age
+                    sb.append('_');
+                    break;
+                default:
+                    // remove everything else other than word, number and _
+                    // $php_variable => php_variable
+                    if (allowUnicodeIdentifiers || isAsciiWordChar(c)) {
+                        sb.append(c);
+                    }
+            }
         }
-        else {
-            name = name.replaceAll("\\W", "");
+        if (allowUnicodeIdentifiers) {
+            return UNICODE_NON_WORD_PATTERN.matcher(sb).replaceAll("");
         }
-
-        return name;
+        return sb.toString();
     }
 
     /**
@@ -3504,4 +3735,32 @@ public class DefaultCodegen implements CodegenConfig {
     public String getHelp() {
         return null;
     }
+
+    private static boolean isAsciiUpperCase(char c) {
+        return c >= 'A' && c <= 'Z';
+    }
+
+    private static boolean isAsciiLowerCase(char c) {
+        return c >= 'a' && c <= 'z';
+    }
+
+    private static boolean isAsciiDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isAsciiWordChar(char c) {
+        return isAsciiUpperCase(c) || isAsciiLowerCase(c) || isAsciiDigit(c) || c == '_';
+    }
+
+    private static class LookupModel {
+        private final Schema schema;
+        private final Map<String, Schema> allDefinitions;
+        private final CodegenModel model;
+
+        LookupModel(Schema schema, Map<String, Schema> allDefinitions, CodegenModel model) {
+            this.schema = schema;
+            this.allDefinitions = allDefinitions;
+            this.model = model;
+        }
+    }
 }
@@ -2,10 +2,8 @@ package io.swagger.codegen;
 
 import java.io.File;
 import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.OutputStream;
 import java.io.Reader;
 import java.net.MalformedURLException;
 import java.net.URL;
@@ -16,6 +14,7 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -24,6 +23,11 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import com.github.jknack.handlebars.Handlebars;
 import com.github.jknack.handlebars.Helper;
@@ -35,6 +39,7 @@ import com.github.jknack.handlebars.io.FileTemplateLoader;
 import com.github.jknack.handlebars.io.StringTemplateSource;
 import com.github.jknack.handlebars.io.TemplateLoader;
 import com.github.jknack.handlebars.io.TemplateSource;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import io.swagger.codegen.languages.helpers.ExtensionHelper;
 import io.swagger.codegen.languages.helpers.NoneExtensionHelper;
 import io.swagger.codegen.utils.URLPathUtil;
@@ -85,6 +90,15 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
     private String basePathWithoutHost;
     private String contextPath;
     private Map<String, String> generatorPropertyDefaults = new HashMap<>();
+    private GenerationContext generationContext = new GenerationContext();
+    private CompiledTemplateCache templateCache = CompiledTemplateCache.getInstance();
+    private int workers = 1;
+    private ExecutorService executor;
+    private final List<Future<File>> pendingRenders = new ArrayList<>();
+    private boolean incremental;
+    private GenerationManifest manifest;
+    private GenerationFingerprints fingerprints;
+    private final Map<CodegenOperation, String> operationFingerprints = new IdentityHashMap<>();
 
     @Override
     public Generator opts(ClientOptInput opts) {
@@ -92,6 +106,13 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
         this.openAPI = opts.getOpenAPI();
         this.config = opts.getConfig();
         this.config.additionalProperties().putAll(opts.getOpts().getProperties());
+        this.workers = opts.getWorkers();
+        this.incremental = opts.isIncremental();
+        setSkipIdenticalFiles(opts.isSkipIdenticalFiles());
+        setOutputSink(opts.getOutputSink());
+        this.generationContext = opts.getGenerationContext();
+        this.config.setGenerationContext(this.generationContext);
+        this.config.setOutputSink(getOutputSink());
 
         String ignoreFileLocation = this.config.getIgnoreFilePathOverride();
         if(ignoreFileLocation != null) {
@@ -131,10 +152,46 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
         this.generatorPropertyDefaults.put(key, value);
     }
 
+    /**
+     * Use the given cache for compiled templates instead of the process-wide one.
+     * @param templateCache compiled template cache
+     */
+    @SuppressWarnings("WeakerAccess")
+    public void setTemplateCache(CompiledTemplateCache templateCache) {
+        this.templateCache = templateCache;
+    }
+
+    /**
+     * Set the number of worker threads used to render template files.
+     * With more than one worker, files are rendered in parallel; output and the order of the
+     * returned files are the same as in serial mode. Schemas and operations are converted in parallel
+     * as well if the codegen config supports concurrent conversion.
+     * @param workers number of render workers, 1 renders on the calling thread
+     */
+    @SuppressWarnings("WeakerAccess")
+    public void setWorkers(int workers) {
+        this.workers = workers;
+    }
+
+    /**
+     * Enable incremental generation. Input fingerprints of the generated files are kept in
+     * .swagger-codegen/MANIFEST; files whose schema, operations, template and options didn't change since
+     * the last incremental run are not rendered again, and rendered files with unchanged content are not
+     * rewritten.
+     * @param incremental true to only render files whose inputs changed
+     */
+    @SuppressWarnings("WeakerAccess")
+    public void setIncremental(boolean incremental) {
+        this.incremental = incremental;
+    }
+
     private Boolean getGeneratorPropertyDefaultSwitch(final String key, final Boolean defaultValue) {
         String result = null;
         if (this.generatorPropertyDefaults.containsKey(key)) {
             result = this.generatorPropertyDefaults.get(key);
+        } else {
+            // switches of the generation, e.g. modelTests=false
+            result = generationContext.getProperty(key);
         }
         if (result != null) {
             return Boolean.valueOf(result);
@@ -151,12 +208,20 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
         return scheme;
     }
 
+    /**
+     * Processes the options of the generator and the codegen, the first step of {@link #generate()}.
+     */
+    void configure() {
+        configureGeneratorProperties();
+        configureSwaggerInfo();
+    }
+
     private void configureGeneratorProperties() {
         // allows generating only models by specifying a CSV of models to generate, or empty for all
         // NOTE: Boolean.TRUE is required below rather than `true` because of JVM boxing constraints and type inference.
-        generateApis = System.getProperty(CodegenConstants.APIS) != null ? Boolean.TRUE : getGeneratorPropertyDefaultSwitch(CodegenConstants.APIS, null);
-        generateModels = System.getProperty(CodegenConstants.MODELS) != null ? Boolean.TRUE : getGeneratorPropertyDefaultSwitch(CodegenConstants.MODELS, null);
-        generateSupportingFiles = System.getProperty(CodegenConstants.SUPPORTING_FILES) != null ? Boolean.TRUE : getGeneratorPropertyDefaultSwitch(CodegenConstants.SUPPORTING_FILES, null);
+        generateApis = generationContext.isSet(CodegenConstants.APIS) ? Boolean.TRUE : getGeneratorPropertyDefaultSwitch(CodegenConstants.APIS, null);
+        generateModels = generationContext.isSet(CodegenConstants.MODELS) ? Boolean.TRUE : getGeneratorPropertyDefaultSwitch(CodegenConstants.MODELS, null);
+        generateSupportingFiles = generationContext.isSet(CodegenConstants.SUPPORTING_FILES) ? Boolean.TRUE : getGeneratorPropertyDefaultSwitch(CodegenConstants.SUPPORTING_FILES, null);
 
         if (generateApis == null && generateModels == null && generateSupportingFiles == null) {
             // no specifics are set, generate everything
@@ -194,11 +259,13 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
         if(!generateApiTests && !generateModelTests) {
             config.additionalProperties().put(CodegenConstants.EXCLUDE_TESTS, true);
         }
-        if (System.getProperty("debugSwagger") != null) {
+        if (generationContext.isSet("debugSwagger")) {
             Json.prettyPrint(this.openAPI);
         }
         config.processOpts();
         config.preprocessOpenAPI(this.openAPI);
+        // preprocessing may change what the names depend on, e.g. the type mappings
+        config.getNameCache().clear();
         config.additionalProperties().put("generatorVersion", ImplementationVersion.read());
         config.additionalProperties().put("generatedDate", ZonedDateTime.now().toString());
         config.additionalProperties().put("generatedYear", String.valueOf(ZonedDateTime.now().getYear()));
@@ -276,24 +343,24 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
         }
     }
 
-    private void generateModelTests(List<File> files, Map<String, Object> models, String modelName) throws IOException{
+    private void generateModelTests(List<File> files, Map<String, Object> models, String modelName, String modelFingerprint) throws IOException{
         // to generate model test files
         for (String templateName : config.modelTestTemplateFiles().keySet()) {
             String suffix = config.modelTestTemplateFiles().get(templateName);
             String filename = config.modelTestFileFolder() + File.separator + config.toModelTestFilename(modelName) + suffix;
             // do not overwrite test file that already exists
-            if (new File(filename).exists()) {
+            if (getOutputSink().exists(filename)) {
                 LOGGER.info("File exists. Skipped overwriting " + filename);
                 continue;
             }
-            File written = processTemplateToFile(models, templateName, filename);
+            File written = processTemplateToFile(models, templateName, filename, modelFingerprint);
             if (written != null) {
                 files.add(written);
             }
         }
     }
 
-    private void generateModelDocumentation(List<File> files, Map<String, Object> models, String modelName) throws IOException {
+    private void generateModelDocumentation(List<File> files, Map<String, Object> models, String modelName, String modelFingerprint) throws IOException {
         for (String templateName : config.modelDocTemplateFiles().keySet()) {
             String suffix = config.modelDocTemplateFiles().get(templateName);
             String filename = config.modelDocFileFolder() + File.separator + config.toModelDocFilename(modelName) + suffix;
@@ -301,7 +368,7 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
                 LOGGER.info("Skipped overwriting " + filename);
                 continue;
             }
-            File written = processTemplateToFile(models, templateName, filename);
+            File written = processTemplateToFile(models, templateName, filename, modelFingerprint);
             if (written != null) {
                 files.add(written);
             }
@@ -319,7 +386,7 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
             return;
         }
 
-        String modelNames = System.getProperty("models");
+        String modelNames = generationContext.getProperty("models");
         Set<String> modelsToGenerate = null;
         if(modelNames != null && !modelNames.isEmpty()) {
             modelsToGenerate = new HashSet<>(Arrays.asList(modelNames.split(",")));
@@ -337,13 +404,17 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
         }
 
         // store all processed models
+        final NameCache names = config.getNameCache();
         Map<String,Object> allProcessedModels = new TreeMap<>(new Comparator<String>() {
             @Override
             public int compare(String o1, String o2) {
-                return ObjectUtils.compare(config.toModelName(o1), config.toModelName(o2));
+                return ObjectUtils.compare(names.toModelName(o1), names.toModelName(o2));
             }
         });
 
+        // convert models concurrently if supported, the results are merged below in the serial order
+        final Map<String, CodegenModel> convertedModels = convertModels(modelKeys, schemas);
+
         // process models only
         for (String name : modelKeys) {
             try {
@@ -352,13 +423,7 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
                     LOGGER.info("Model " + name + " not imported due to import mapping");
                     continue;
                 }
-                Schema schema = schemas.get(name);
-                Map<String, Schema> schemaMap = new HashMap<>();
-                schemaMap.put(name, schema);
-                Map<String, Object> models = processModels(config, schemaMap, schemas);
-                models.put("classname", config.toModelName(name));
-                models.putAll(config.additionalProperties());
-                allProcessedModels.put(name, models);
+                allProcessedModels.put(name, processModel(name, schemas, convertedModels));
             } catch (Exception e) {
                 throw new RuntimeException("Could not process model '" + name + "'" + ".Please make sure that your schema is correct!", e);
             }
@@ -386,43 +451,99 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
                     }
                 }
                 allModels.add(modelTemplate);
+                final String modelFingerprint = fingerprints != null ? fingerprints.model(modelName) : null;
                 for (String templateName : config.modelTemplateFiles().keySet()) {
                     String suffix = config.modelTemplateFiles().get(templateName);
-                    String filename = config.modelFileFolder() + File.separator + config.toModelFilename(modelName) + suffix;
+                    String filename = config.modelFileFolder() + File.separator + config.getNameCache().toModelFilename(modelName) + suffix;
                     if (!config.shouldOverwrite(filename)) {
                         LOGGER.info("Skipped overwriting " + filename);
                         continue;
                     }
-                    File written = processTemplateToFile(models, templateName, filename);
+                    File written = processTemplateToFile(models, templateName, filename, modelFingerprint);
                     if(written != null) {
                         files.add(written);
                     }
                 }
                 if(generateModelTests) {
-                    generateModelTests(files, models, modelName);
+                    generateModelTests(files, models, modelName, modelFingerprint);
                 }
                 if(generateModelDocumentation) {
                     // to generate model documentation files
-                    generateModelDocumentation(files, models, modelName);
+                    generateModelDocumentation(files, models, modelName, modelFingerprint);
                 }
             } catch (Exception e) {
                 throw new RuntimeException("Could not generate model '" + modelName + "'", e);
             }
         }
-        if (System.getProperty("debugModels") != null) {
+        awaitPendingRenders();
+        if (generationContext.isSet("debugModels")) {
             LOGGER.info("############ Model info ############");
             Json.prettyPrint(allModels);
         }
 
     }
 
+    /**
+     * @param name schema name
+     * @param schemas all schemas of the spec
+     * @param convertedModels models converted ahead, the others are converted here
+     * @return template data of the model, before {@link CodegenConfig#postProcessAllModels(Map)}
+     */
+    Map<String, Object> processModel(String name, Map<String, Schema> schemas, Map<String, CodegenModel> convertedModels) {
+        Map<String, Schema> schemaMap = new HashMap<>();
+        schemaMap.put(name, schemas.get(name));
+        Map<String, Object> models = processModels(config, schemaMap, schemas, convertedModels);
+        models.put("classname", config.getNameCache().toModelName(name));
+        models.putAll(config.additionalProperties());
+        return models;
+    }
+
+    /**
+     * @param tag tag grouping the operations
+     * @param ops operations of the tag, sorted by operation id here
+     * @param allModels template data of all models
+     * @return template data of the api of the tag
+     */
+    Map<String, Object> processApi(String tag, List<CodegenOperation> ops, List<Object> allModels) {
+        Collections.sort(ops, new Comparator<CodegenOperation>() {
+            @Override
+            public int compare(CodegenOperation one, CodegenOperation another) {
+                return ObjectUtils.compare(one.operationId, another.operationId);
+            }
+        });
+        Map<String, Object> operation = processOperations(config, tag, ops, allModels);
+
+        operation.put("basePath", basePath);
+        operation.put("basePathWithoutHost", basePathWithoutHost);
+        operation.put("contextPath", contextPath);
+        operation.put("baseName", tag);
+        operation.put("modelPackage", config.modelPackage());
+        operation.putAll(config.additionalProperties());
+        operation.put("classname", config.getNameCache().toApiName(tag));
+        operation.put("classVarName", config.toApiVarName(tag));
+        operation.put("importPath", config.toApiImport(tag));
+        operation.put("classFilename", config.toApiFilename(tag));
+
+        if(!config.vendorExtensions().isEmpty()) {
+            operation.put("vendorExtensions", config.vendorExtensions());
+        }
+
+        // Pass sortParamsByRequiredFlag through to the Mustache template...
+        boolean sortParamsByRequiredFlag = true;
+        if (this.config.additionalProperties().containsKey(CodegenConstants.SORT_PARAMS_BY_REQUIRED_FLAG)) {
+            sortParamsByRequiredFlag = Boolean.valueOf(this.config.additionalProperties().get(CodegenConstants.SORT_PARAMS_BY_REQUIRED_FLAG).toString());
+        }
+        operation.put("sortParamsByRequiredFlag", sortParamsByRequiredFlag);
+        return operation;
+    }
+
     private void generateApis(List<File> files, List<Object> allOperations, List<Object> allModels) {
         if (!generateApis) {
             return;
         }
         Map<String, List<CodegenOperation>> paths = processPaths(this.openAPI.getPaths());
         Set<String> apisToGenerate = null;
-        String apiNames = System.getProperty("apis");
+        String apiNames = generationContext.getProperty("apis");
         if(apiNames != null && !apiNames.isEmpty()) {
             apisToGenerate = new HashSet<String>(Arrays.asList(apiNames.split(",")));
         }
@@ -438,35 +559,8 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
         for (String tag : paths.keySet()) {
             try {
                 List<CodegenOperation> ops = paths.get(tag);
-                Collections.sort(ops, new Comparator<CodegenOperation>() {
-                    @Override
-                    public int compare(CodegenOperation one, CodegenOperation another) {
-                        return ObjectUtils.compare(one.operationId, another.operationId);
-                    }
-                });
-                Map<String, Object> operation = processOperations(config, tag, ops, allModels);
-
-                operation.put("basePath", basePath);
-                operation.put("basePathWithoutHost", basePathWithoutHost);
-                operation.put("contextPath", contextPath);
-                operation.put("baseName", tag);
-                operation.put("modelPackage", config.modelPackage());
-                operation.putAll(config.additionalProperties());
-                operation.put("classname", config.toApiName(tag));
-                operation.put("classVarName", config.toApiVarName(tag));
-                operation.put("importPath", config.toApiImport(tag));
-                operation.put("classFilename", config.toApiFilename(tag));
-
-                if(!config.vendorExtensions().isEmpty()) {
-                    operation.put("vendorExtensions", config.vendorExtensions());
-                }
-
-                // Pass sortParamsByRequiredFlag through to the Mustache template...
-                boolean sortParamsByRequiredFlag = true;
-                if (this.config.additionalProperties().containsKey(CodegenConstants.SORT_PARAMS_BY_REQUIRED_FLAG)) {
-                    sortParamsByRequiredFlag = Boolean.valueOf(this.config.additionalProperties().get(CodegenConstants.SORT_PARAMS_BY_REQUIRED_FLAG).toString());
-                }
-                operation.put("sortParamsByRequiredFlag", sortParamsByRequiredFlag);
+                Map<String, Object> operation = processApi(tag, ops, allModels);
+                final String apiFingerprint = getApiFingerprint(ops);
 
                 allOperations.add(new HashMap<>(operation));
                 for (int i = 0; i < allOperations.size(); i++) {
@@ -478,12 +572,12 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
 
                 for (String templateName : config.apiTemplateFiles().keySet()) {
                     String filename = config.apiFilename(templateName, tag);
-                    if (!config.shouldOverwrite(filename) && new File(filename).exists()) {
+                    if (!config.shouldOverwrite(filename) && getOutputSink().exists(filename)) {
                         LOGGER.info("Skipped overwriting " + filename);
                         continue;
                     }
 
-                    File written = processTemplateToFile(operation, templateName, filename);
+                    File written = processTemplateToFile(operation, templateName, filename, apiFingerprint);
                     if(written != null) {
                         files.add(written);
                     }
@@ -494,12 +588,12 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
                     for (String templateName : config.apiTestTemplateFiles().keySet()) {
                         String filename = config.apiTestFilename(templateName, tag);
                         // do not overwrite test file that already exists
-                        if (new File(filename).exists()) {
+                        if (getOutputSink().exists(filename)) {
                             LOGGER.info("File exists. Skipped overwriting " + filename);
                             continue;
                         }
 
-                        File written = processTemplateToFile(operation, templateName, filename);
+                        File written = processTemplateToFile(operation, templateName, filename, apiFingerprint);
                         if (written != null) {
                             files.add(written);
                         }
@@ -511,12 +605,12 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
                     // to generate api documentation files
                     for (String templateName : config.apiDocTemplateFiles().keySet()) {
                         String filename = config.apiDocFilename(templateName, tag);
-                        if (!config.shouldOverwrite(filename) && new File(filename).exists()) {
+                        if (!config.shouldOverwrite(filename) && getOutputSink().exists(filename)) {
                             LOGGER.info("Skipped overwriting " + filename);
                             continue;
                         }
 
-                        File written = processTemplateToFile(operation, templateName, filename);
+                        File written = processTemplateToFile(operation, templateName, filename, apiFingerprint);
                         if (written != null) {
                             files.add(written);
                         }
@@ -527,7 +621,8 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
                 throw new RuntimeException("Could not generate api file for '" + tag + "'", e);
             }
         }
-        if (System.getProperty("debugOperations") != null) {
+        awaitPendingRenders();
+        if (generationContext.isSet("debugOperations")) {
             LOGGER.info("############ Operation info ############");
             Json.prettyPrint(allOperations);
         }
@@ -539,21 +634,18 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
             return;
         }
         Set<String> supportingFilesToGenerate = null;
-        String supportingFiles = System.getProperty(CodegenConstants.SUPPORTING_FILES);
+        String supportingFiles = generationContext.getProperty(CodegenConstants.SUPPORTING_FILES);
         if (supportingFiles != null && !supportingFiles.isEmpty()) {
             supportingFilesToGenerate = new HashSet<>(Arrays.asList(supportingFiles.split(",")));
         }
 
         for (SupportingFile support : config.supportingFiles()) {
+            checkCancelled();
             try {
                 String outputFolder = config.outputFolder();
                 if (StringUtils.isNotEmpty(support.folder)) {
                     outputFolder += File.separator + support.folder;
                 }
-                File of = new File(outputFolder);
-                if (!of.isDirectory()) {
-                    of.mkdirs();
-                }
                 String outputFilename = outputFolder + File.separator + support.destinationFilename.replace('/', File.separatorChar);
                 if (!config.shouldOverwrite(outputFilename)) {
                     LOGGER.info("Skipped overwriting " + outputFilename);
@@ -579,8 +671,13 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
                     if (templateFile.endsWith("mustache")) {
                         String templateName = templateFile;
                         final com.github.jknack.handlebars.Template hTemplate = getHandlebars(templateName.replace(config.templateDir(), StringUtils.EMPTY));
-                        String rendered = hTemplate.apply(bundle);
-                        writeToFile(outputFilename, rendered);
+                        final String fingerprint = fingerprints != null ? fingerprints.file(fingerprints.supportingFiles(), templateName, hTemplate) : null;
+                        if (isUpToDate(outputFilename, fingerprint)) {
+                            LOGGER.info("Skipped unchanged " + outputFilename);
+                        } else {
+                            renderToFile(hTemplate, bundle, outputFilename);
+                            recordFingerprint(outputFilename, fingerprint);
+                        }
 
                         // writeToFile(outputFilename, tmpl.execute(bundle));
                         files.add(new File(outputFilename));
@@ -595,16 +692,16 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
                         if (in == null) {
                             in = this.getClass().getClassLoader().getResourceAsStream(getCPResourcePath(templateFile));
                         }
-                        File outputFile = new File(outputFilename);
-                        OutputStream out = new FileOutputStream(outputFile, false);
                         if (in != null) {
-                            LOGGER.info("writing file " + outputFile);
-                            IOUtils.copy(in, out);
-                            out.close();
+                            try {
+                                files.add(writeToFile(outputFilename, IOUtils.toByteArray(in)));
+                            } finally {
+                                in.close();
+                            }
                         } else {
                             LOGGER.warn("can't open " + templateFile + " for input");
+                            files.add(writeToFile(outputFilename, new byte[0]));
                         }
-                        files.add(outputFile);
                     }
                 } else {
                     LOGGER.info("Skipped generation of " + outputFilename + " due to rule in .swagger-codegen-ignore");
@@ -613,13 +710,14 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
                 throw new RuntimeException("Could not generate supporting file '" + support + "'", e);
             }
         }
+        awaitPendingRenders();
 
         // Consider .swagger-codegen-ignore a supporting file
         // Output .swagger-codegen-ignore if it doesn't exist and wasn't explicitly created by a generator
         final String swaggerCodegenIgnore = ".swagger-codegen-ignore";
         String ignoreFileNameTarget = config.outputFolder() + File.separator + swaggerCodegenIgnore;
         File ignoreFile = new File(ignoreFileNameTarget);
-        if (generateSwaggerMetadata && !ignoreFile.exists()) {
+        if (generateSwaggerMetadata && !getOutputSink().exists(ignoreFileNameTarget)) {
             String ignoreFileNameSource = File.separator + config.getCommonTemplateDir() + File.separator + swaggerCodegenIgnore;
             String ignoreFileContents = readResourceContents(ignoreFileNameSource);
             try {
@@ -703,7 +801,7 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
 
         config.postProcessSupportingFileData(bundle);
 
-        if (System.getProperty("debugSupportingFiles") != null) {
+        if (generationContext.isSet("debugSupportingFiles")) {
             LOGGER.info("############ Supporting file info ############");
             Json.prettyPrint(bundle);
         }
@@ -719,31 +817,162 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
         if (config == null) {
             throw new RuntimeException("missing configuration input!");
         }
-        configureGeneratorProperties();
-        configureSwaggerInfo();
+        configure();
 
         List<File> files = new ArrayList<>();
-        // models
-        List<Object> allModels = new ArrayList<>();
-        generateModels(files, allModels);
-        // apis
-        List<Object> allOperations = new ArrayList<>();
-        generateApis(files, allOperations, allModels);
-
-        // supporting files
-        Map<String, Object> bundle = buildSupportFileBundle(allOperations, allModels);
-        generateSupportingFiles(files, bundle);
+        startExecutor();
+        startIncrementalGeneration();
+        try {
+            // models
+            List<Object> allModels = new ArrayList<>();
+            generateModels(files, allModels);
+            // apis
+            List<Object> allOperations = new ArrayList<>();
+            generateApis(files, allOperations, allModels);
+
+            // supporting files
+            Map<String, Object> bundle = buildSupportFileBundle(allOperations, allModels);
+            generateSupportingFiles(files, bundle);
+            saveManifest();
+        } finally {
+            stopExecutor();
+            manifest = null;
+            fingerprints = null;
+            operationFingerprints.clear();
+        }
         config.processOpenAPI(openAPI);
         return files;
     }
 
-    private File processTemplateToFile(Map<String, Object> templateData, String templateName, String outputFilename) throws IOException {
+    private void startIncrementalGeneration() {
+        if (!isFileSystemOutput()) {
+            // nothing to compare with, all files are generated
+            return;
+        }
+        if (!incremental) {
+            GenerationManifest.delete(config.outputFolder());
+            return;
+        }
+        // unchanged content of re-rendered files is never rewritten
+        setSkipIdenticalFiles(true);
+        manifest = GenerationManifest.load(config.outputFolder());
+        fingerprints = new GenerationFingerprints(config, openAPI);
+    }
+
+    private void saveManifest() {
+        if (manifest == null) {
+            return;
+        }
+        try {
+            manifest.save();
+        } catch (IOException e) {
+            throw new RuntimeException("Could not write incremental generation manifest", e);
+        }
+    }
+
+    private boolean isUpToDate(String filename, String fingerprint) {
+        return manifest != null && manifest.isUpToDate(filename, fingerprint);
+    }
+
+    private void recordFingerprint(String filename, String fingerprint) {
+        if (manifest != null) {
+            manifest.record(filename, fingerprint);
+        }
+    }
+
+    private String getApiFingerprint(List<CodegenOperation> ops) {
+        if (fingerprints == null) {
+            return null;
+        }
+        final List<String> operations = new ArrayList<>(ops.size());
+        for (CodegenOperation op : ops) {
+            final String fingerprint = operationFingerprints.get(op);
+            if (fingerprint == null) {
+                return null;
+            }
+            operations.add(fingerprint);
+        }
+        return fingerprints.api(operations);
+    }
+
+    private void startExecutor() {
+        if (workers <= 1) {
+            return;
+        }
+        executor = Executors.newFixedThreadPool(workers, new ThreadFactoryBuilder()
+                .setNameFormat("swagger-codegen-worker-%d")
+                .setDaemon(true)
+                .build());
+    }
+
+    private void stopExecutor() {
+        if (executor == null) {
+            return;
+        }
+        for (Future<File> pending : pendingRenders) {
+            pending.cancel(true);
+        }
+        pendingRenders.clear();
+        executor.shutdownNow();
+        executor = null;
+    }
+
+    /**
+     * Render the template to the given file, on a render worker when running in parallel mode.
+     * The template output is streamed to the file instead of being rendered to a string first.
+     * Template data must not be modified afterwards until {@link #awaitPendingRenders()} returns.
+     */
+    private void renderToFile(final com.github.jknack.handlebars.Template template, final Object templateData, final String outputFilename) throws IOException {
+        if (executor == null) {
+            writeToFile(outputFilename, writer -> template.apply(templateData, writer));
+            return;
+        }
+        pendingRenders.add(executor.submit(() -> {
+            try {
+                return writeToFile(outputFilename, writer -> template.apply(templateData, writer));
+            } catch (Exception e) {
+                throw new RuntimeException("Could not generate file '" + outputFilename + "'", e);
+            }
+        }));
+    }
+
+    private void checkCancelled() {
+        if (generationContext.isCancelled()) {
+            throw new CancellationException("Generation cancelled");
+        }
+    }
+
+    private void awaitPendingRenders() {
+        try {
+            for (Future<File> pending : pendingRenders) {
+                pending.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while rendering files", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new RuntimeException(e.getCause());
+        } finally {
+            pendingRenders.clear();
+        }
+    }
+
+    private File processTemplateToFile(Map<String, Object> templateData, String templateName, String outputFilename, String inputFingerprint) throws IOException {
+        checkCancelled();
         String adjustedOutputFilename = outputFilename.replaceAll("//", "/").replace('/', File.separatorChar);
         if(ignoreProcessor.allowsFile(new File(adjustedOutputFilename))) {
             String templateFile = getFullTemplateFile(config, templateName);
             final com.github.jknack.handlebars.Template hTemplate = getHandlebars(templateFile);
-            String rendered = hTemplate.apply(templateData);
-            writeToFile(adjustedOutputFilename, rendered);
+            final String fingerprint = fingerprints != null ? fingerprints.file(inputFingerprint, templateFile, hTemplate) : null;
+            if (isUpToDate(adjustedOutputFilename, fingerprint)) {
+                LOGGER.info("Skipped unchanged " + adjustedOutputFilename);
+                return new File(adjustedOutputFilename);
+            }
+            renderToFile(hTemplate, templateData, adjustedOutputFilename);
+            recordFingerprint(adjustedOutputFilename, fingerprint);
             return new File(adjustedOutputFilename);
         }
 
@@ -776,24 +1005,33 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
 
     public Map<String, List<CodegenOperation>> processPaths(Paths paths) {
         Map<String, List<CodegenOperation>> ops = new TreeMap<>();
+        final List<PendingOperation> pendingOperations = new ArrayList<>();
         for (String resourcePath : paths.keySet()) {
             PathItem path = paths.get(resourcePath);
-            processOperation(resourcePath, "get", path.getGet(), ops, path);
-            processOperation(resourcePath, "head", path.getHead(), ops, path);
-            processOperation(resourcePath, "put", path.getPut(), ops, path);
-            processOperation(resourcePath, "post", path.getPost(), ops, path);
-            processOperation(resourcePath, "delete", path.getDelete(), ops, path);
-            processOperation(resourcePath, "patch", path.getPatch(), ops, path);
-            processOperation(resourcePath, "options", path.getOptions(), ops, path);
+            processOperation(resourcePath, "get", path.getGet(), ops, path, pendingOperations);
+            processOperation(resourcePath, "head", path.getHead(), ops, path, pendingOperations);
+            processOperation(resourcePath, "put", path.getPut(), ops, path, pendingOperations);
+            processOperation(resourcePath, "post", path.getPost(), ops, path, pendingOperations);
+            processOperation(resourcePath, "delete", path.getDelete(), ops, path, pendingOperations);
+            processOperation(resourcePath, "patch", path.getPatch(), ops, path, pendingOperations);
+            processOperation(resourcePath, "options", path.getOptions(), ops, path, pendingOperations);
+        }
+        // merge concurrently converted operations in the serial order
+        for (PendingOperation pending : pendingOperations) {
+            try {
+                groupOperation(pending.resourcePath, pending.operation, pending.tags, pending.tag, getResult(pending.codegenOperations).get(pending.index), ops);
+            } catch (Exception ex) {
+                throw operationException(pending.resourcePath, pending.httpMethod, pending.operation, pending.tag, ex);
+            }
         }
         return ops;
     }
 
-    private void processOperation(String resourcePath, String httpMethod, Operation operation, Map<String, List<CodegenOperation>> operations, PathItem path) {
+    private void processOperation(String resourcePath, String httpMethod, Operation operation, Map<String, List<CodegenOperation>> operations, PathItem path, List<PendingOperation> pendingOperations) {
         if (operation == null) {
             return;
         }
-        if (System.getProperty("debugOperations") != null) {
+        if (generationContext.isSet("debugOperations")) {
             LOGGER.info("processOperation: resourcePath= " + resourcePath + "\t;" + httpMethod + " " + operation + "\n");
         }
         List<Tag> tags = new ArrayList<>();
@@ -850,39 +1088,161 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
         }
 
         final Map<String, Schema> schemas = openAPI.getComponents() != null ? openAPI.getComponents().getSchemas() : null;
-        final Map<String, SecurityScheme> securitySchemes = openAPI.getComponents() != null ? openAPI.getComponents().getSecuritySchemes() : null;
-        final List<SecurityRequirement> globalSecurities = openAPI.getSecurity();
-        for (Tag tag : tags) {
+        if (canConvertConcurrently()) {
+            final Future<List<CodegenOperation>> codegenOperations =
+                    executor.submit(() -> convertOperation(resourcePath, httpMethod, operation, schemas, tags.size()));
+            for (int i = 0; i < tags.size(); i++) {
+                pendingOperations.add(new PendingOperation(resourcePath, httpMethod, operation, tags, tags.get(i), codegenOperations, i));
+            }
+            return;
+        }
+        List<CodegenOperation> codegenOperations = null;
+        for (int i = 0; i < tags.size(); i++) {
             try {
-                CodegenOperation codegenOperation = config.fromOperation(resourcePath, httpMethod, operation, schemas, openAPI);
-                codegenOperation.tags = new ArrayList<>(tags);
-                config.addOperationToGroup(config.sanitizeTag(tag.getName()), resourcePath, operation, codegenOperation, operations);
-
-                List<SecurityRequirement> securities = operation.getSecurity();
-                if (securities != null && securities.isEmpty()) {
-                    continue;
-                }
-                Map<String, SecurityScheme> authMethods = getAuthMethods(securities, securitySchemes);
-                if (authMethods == null || authMethods.isEmpty()) {
-                    authMethods = getAuthMethods(globalSecurities, securitySchemes);
+                if (codegenOperations == null) {
+                    codegenOperations = convertOperation(resourcePath, httpMethod, operation, schemas, tags.size());
                 }
+                groupOperation(resourcePath, operation, tags, tags.get(i), codegenOperations.get(i), operations);
+            } catch (Exception ex) {
+                throw operationException(resourcePath, httpMethod, operation, tags.get(i), ex);
+            }
+        }
+
+    }
+
+    /**
+     * Converts the operation once for all its tags: the operations of the other tags are copies, taken before
+     * grouping, so each tag gets an operation of its own to post-process.
+     */
+    private List<CodegenOperation> convertOperation(String resourcePath, String httpMethod, Operation operation, Map<String, Schema> schemas, int tagCount) {
+        final CodegenOperation codegenOperation = config.fromOperation(resourcePath, httpMethod, operation, schemas, openAPI);
+        final List<CodegenOperation> codegenOperations = new ArrayList<>(tagCount);
+        codegenOperations.add(codegenOperation);
+        for (int i = 1; i < tagCount; i++) {
+            codegenOperations.add(isCopyable(codegenOperation)
+                    ? codegenOperation.copy()
+                    : config.fromOperation(resourcePath, httpMethod, operation, schemas, openAPI));
+        }
+        return codegenOperations;
+    }
 
-                if (authMethods != null && !authMethods.isEmpty()) {
-                    codegenOperation.authMethods = config.fromSecurity(authMethods);
-                    codegenOperation.getVendorExtensions().put(CodegenConstants.HAS_AUTH_METHODS_EXT_NAME, Boolean.TRUE);
+    /**
+     * @return false if the operation, its parameters or its responses are of custom types, which may have fields the
+     * copy doesn't know of
+     */
+    private static boolean isCopyable(CodegenOperation codegenOperation) {
+        if (codegenOperation.getClass() != CodegenOperation.class) {
+            return false;
+        }
+        for (CodegenParameter param : codegenOperation.allParams) {
+            if (param.getClass() != CodegenParameter.class) {
+                return false;
+            }
+        }
+        if (codegenOperation.responses != null) {
+            for (CodegenResponse response : codegenOperation.responses) {
+                if (response.getClass() != CodegenResponse.class) {
+                    return false;
                 }
-            } catch (Exception ex) {
-                ex.printStackTrace();
-                String msg = "Could not process operation:\n" //
-                        + "  Tag: " + tag + "\n"//
-                        + "  Operation: " + operation.getOperationId() + "\n" //
-                        + "  Resource: " + httpMethod + " " + resourcePath + "\n"//
-                       // + "  Definitions: " + swagger.getDefinitions() + "\n"  //
-                        + "  Exception: " + ex.getMessage();
-                throw new RuntimeException(msg, ex);
             }
         }
+        return true;
+    }
+
+    private void groupOperation(String resourcePath, Operation operation, List<Tag> tags, Tag tag, CodegenOperation codegenOperation, Map<String, List<CodegenOperation>> operations) {
+        final Map<String, SecurityScheme> securitySchemes = openAPI.getComponents() != null ? openAPI.getComponents().getSecuritySchemes() : null;
+        final List<SecurityRequirement> globalSecurities = openAPI.getSecurity();
+
+        codegenOperation.tags = new ArrayList<>(tags);
+        if (fingerprints != null) {
+            operationFingerprints.put(codegenOperation, fingerprints.operation(resourcePath, codegenOperation.httpMethod, operation));
+        }
+        config.addOperationToGroup(config.sanitizeTag(tag.getName()), resourcePath, operation, codegenOperation, operations);
+
+        List<SecurityRequirement> securities = operation.getSecurity();
+        if (securities != null && securities.isEmpty()) {
+            return;
+        }
+        Map<String, SecurityScheme> authMethods = getAuthMethods(securities, securitySchemes);
+        if (authMethods == null || authMethods.isEmpty()) {
+            authMethods = getAuthMethods(globalSecurities, securitySchemes);
+        }
+
+        if (authMethods != null && !authMethods.isEmpty()) {
+            codegenOperation.authMethods = config.fromSecurity(authMethods);
+            codegenOperation.getVendorExtensions().put(CodegenConstants.HAS_AUTH_METHODS_EXT_NAME, Boolean.TRUE);
+        }
+    }
+
+    private static RuntimeException operationException(String resourcePath, String httpMethod, Operation operation, Tag tag, Exception ex) {
+        ex.printStackTrace();
+        String msg = "Could not process operation:\n" //
+                + "  Tag: " + tag + "\n"//
+                + "  Operation: " + operation.getOperationId() + "\n" //
+                + "  Resource: " + httpMethod + " " + resourcePath + "\n"//
+               // + "  Definitions: " + swagger.getDefinitions() + "\n"  //
+                + "  Exception: " + ex.getMessage();
+        return new RuntimeException(msg, ex);
+    }
+
+    private boolean canConvertConcurrently() {
+        return executor != null && config.supportsConcurrentConversion();
+    }
+
+    private Map<String, CodegenModel> convertModels(Set<String> modelKeys, final Map<String, Schema> schemas) {
+        if (!canConvertConcurrently()) {
+            return Collections.emptyMap();
+        }
+        final Map<String, Future<CodegenModel>> pending = new LinkedHashMap<>();
+        for (final String name : modelKeys) {
+            if (config.importMapping().containsKey(name)) {
+                continue;
+            }
+            pending.put(name, executor.submit(() -> config.fromModel(name, schemas.get(name), schemas)));
+        }
+        final Map<String, CodegenModel> convertedModels = new HashMap<>();
+        for (Map.Entry<String, Future<CodegenModel>> entry : pending.entrySet()) {
+            try {
+                convertedModels.put(entry.getKey(), getResult(entry.getValue()));
+            } catch (Exception e) {
+                throw new RuntimeException("Could not process model '" + entry.getKey() + "'" + ".Please make sure that your schema is correct!", e);
+            }
+        }
+        return convertedModels;
+    }
+
+    private static <T> T getResult(Future<T> future) throws Exception {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw e;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception) {
+                throw (Exception) e.getCause();
+            }
+            throw e;
+        }
+    }
 
+    private static class PendingOperation {
+        private final String resourcePath;
+        private final String httpMethod;
+        private final Operation operation;
+        private final List<Tag> tags;
+        private final Tag tag;
+        private final Future<List<CodegenOperation>> codegenOperations;
+        private final int index;
+
+        PendingOperation(String resourcePath, String httpMethod, Operation operation, List<Tag> tags, Tag tag, Future<List<CodegenOperation>> codegenOperations, int index) {
+            this.resourcePath = resourcePath;
+            this.httpMethod = httpMethod;
+            this.operation = operation;
+            this.tags = tags;
+            this.tag = tag;
+            this.codegenOperations = codegenOperations;
+            this.index = index;
+        }
     }
 
     private static String generateParameterId(Parameter parameter) {
@@ -893,7 +1253,7 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
     private Map<String, Object> processOperations(CodegenConfig config, String tag, List<CodegenOperation> ops, List<Object> allModels) {
         Map<String, Object> operations = new HashMap<>();
         Map<String, Object> objs = new HashMap<>();
-        objs.put("classname", config.toApiName(tag));
+        objs.put("classname", config.getNameCache().toApiName(tag));
         objs.put("pathPrefix", config.toApiVarName(tag));
 
         // check for operationId uniqueness
@@ -923,7 +1283,7 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
             Map<String, String> im = new LinkedHashMap<>();
             String mapping = config.importMapping().get(nextImport);
             if (mapping == null) {
-                mapping = config.toModelImport(nextImport);
+                mapping = config.getNameCache().toModelImport(nextImport);
             }
             if (mapping != null) {
                 im.put("import", mapping);
@@ -951,17 +1311,20 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
     }
 
 
-    private Map<String, Object> processModels(CodegenConfig config, Map<String, Schema> definitions, Map<String, Schema> allDefinitions) {
+    private Map<String, Object> processModels(CodegenConfig config, Map<String, Schema> definitions, Map<String, Schema> allDefinitions, Map<String, CodegenModel> convertedModels) {
         Map<String, Object> objs = new HashMap<>();
         objs.put("package", config.modelPackage());
         List<Object> models = new ArrayList<>();
         Set<String> allImports = new LinkedHashSet<>();
         for (String key : definitions.keySet()) {
             Schema schema = definitions.get(key);
-            CodegenModel cm = config.fromModel(key, schema, allDefinitions);
+            CodegenModel cm = convertedModels.get(key);
+            if (cm == null) {
+                cm = config.fromModel(key, schema, allDefinitions);
+            }
             Map<String, Object> mo = new HashMap<>();
             mo.put("model", cm);
-            mo.put("importPath", config.toModelImport(cm.classname));
+            mo.put("importPath", config.getNameCache().toModelImport(cm.classname));
             models.add(mo);
 
             allImports.addAll(cm.imports);
@@ -971,7 +1334,7 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
         for (String nextImport : allImports) {
             String mapping = config.importMapping().get(nextImport);
             if (mapping == null) {
-                mapping = config.toModelImport(nextImport);
+                mapping = config.getNameCache().toModelImport(nextImport);
             }
             if (mapping != null && !config.defaultIncludes().contains(mapping)) {
                 importSet.add(mapping);
@@ -1013,12 +1376,8 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
         if (templateFile.startsWith(config.templateDir())) {
             templateFile = templateFile.replaceFirst(config.templateDir(), StringUtils.EMPTY);
         }
-        final TemplateLoader templateLoader = new ClassPathTemplateLoader("/" + config.templateDir(), ".mustache");
-        final Handlebars handlebars = new Handlebars(templateLoader);
-        config.addHandlebarHelpers(handlebars);
-
         templateFile = templateFile.replace(".mustache", StringUtils.EMPTY).replace("\\", "/");
-        return handlebars.compile(templateFile);
+        return templateCache.get(config, templateFile);
     }
 
     private boolean isJavaCodegen(String name) {
@@ -0,0 +1,86 @@
+package io.swagger.codegen;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Switches of a single generation, such as <code>models</code>, <code>apis</code>, <code>supportingFiles</code>
+ * or the <code>debug*</code> flags, which used to be passed as system properties.
+ * <p>
+ * Each generation gets its own context through {@link ClientOptInput}, so generations running in parallel
+ * in the same JVM don't see each other's switches. Properties not set in the context fall back to the
+ * system properties, so <code>-Dmodels=Pet</code> and similar flags given to the JVM still apply.
+ * <p>
+ * The context is filled before the generation starts and only read afterwards, except for {@link #cancel()}
+ * which can be called from any thread.
+ */
+public class GenerationContext {
+    private final Map<String, String> properties = new HashMap<>();
+    private volatile boolean cancelled;
+
+    public GenerationContext() {
+    }
+
+    public GenerationContext(Map<String, String> properties) {
+        if (properties != null) {
+            this.properties.putAll(properties);
+        }
+    }
+
+    public GenerationContext property(String key, String value) {
+        setProperty(key, value);
+        return this;
+    }
+
+    public void setProperty(String key, String value) {
+        properties.put(key, value);
+    }
+
+    /**
+     * Unsets the property for this generation, even if it is set as system property.
+     *
+     * @param key property name
+     */
+    public void clearProperty(String key) {
+        properties.put(key, null);
+    }
+
+    /**
+     * @param key property name
+     * @return value set in this context, else the system property value, or null if set in neither or cleared in
+     * this context
+     */
+    public String getProperty(String key) {
+        if (properties.containsKey(key)) {
+            return properties.get(key);
+        }
+        return System.getProperty(key);
+    }
+
+    /**
+     * @param key property name
+     * @return true if the property is set in this context or as a system property
+     */
+    public boolean isSet(String key) {
+        return getProperty(key) != null;
+    }
+
+    /**
+     * @return properties set in this context, without the system properties; cleared properties have a null value
+     */
+    public Map<String, String> getProperties() {
+        return Collections.unmodifiableMap(properties);
+    }
+
+    /**
+     * Stops the generation before it renders its next file. Files already written are kept.
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+}
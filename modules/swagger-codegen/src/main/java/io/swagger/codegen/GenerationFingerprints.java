@@ -0,0 +1,316 @@
+package io.swagger.codegen;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.MissingNode;
+import com.github.jknack.handlebars.Template;
+import com.github.jknack.handlebars.io.ClassPathTemplateLoader;
+import com.github.jknack.handlebars.io.TemplateLoader;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import io.swagger.codegen.utils.ImplementationVersion;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+
+/**
+ * Computes the input fingerprints used by the incremental mode of {@link DefaultGenerator}.
+ * <p>
+ * A fingerprint covers the generator options and the part of the spec a file is rendered from: the schema
+ * and the schemas it references for models, the operations of the tag and their references for apis, and
+ * the whole spec for supporting files, and the template a file is rendered with, including its partials.
+ * Instances must be created after the options are processed and before schemas are converted.
+ */
+class GenerationFingerprints {
+    private static final String SCHEMA_REF_PREFIX = "#/components/schemas/";
+    private static final String COMPONENTS_REF_PREFIX = "#/components";
+    // static partial references, e.g. {{>pojo}} or {{#> layout}}; dynamic partials can't be resolved up front
+    private static final Pattern PARTIAL_PATTERN = Pattern.compile("\\{\\{~?#?>\\s*([^\\s}~(]+)");
+
+    // properties changing on every run, not used for fingerprints so unchanged files are not rendered again
+    private static final Set<String> VOLATILE_PROPERTIES = new HashSet<>(Arrays.asList("generatedDate"));
+
+    private final JsonNode components;
+    private final String options;
+    private final String spec;
+    private final String apiGlobals;
+    private final TemplateLoader templateLoader;
+    private final Map<String, String> templates = new ConcurrentHashMap<>();
+    private final Map<String, String> partials = new ConcurrentHashMap<>();
+    private Map<String, List<String>> allOfReferrers;
+
+    GenerationFingerprints(CodegenConfig config, OpenAPI openAPI) {
+        this.components = openAPI.getComponents() != null ? Json.mapper().valueToTree(openAPI.getComponents()) : MissingNode.getInstance();
+        this.options = hash(describeOptions(config));
+        this.spec = hash(options, toJson(openAPI));
+        this.apiGlobals = hash(options, toJson(openAPI.getServers()), toJson(openAPI.getSecurity()), toJson(openAPI.getTags()),
+                components.path("securitySchemes").toString());
+        this.templateLoader = new ClassPathTemplateLoader("/" + config.templateDir(), ".mustache");
+    }
+
+    /**
+     * @param name schema name
+     * @return fingerprint of the model, or null if the schema isn't a component schema
+     */
+    String model(String name) {
+        final JsonNode schema = components.path("schemas").path(name);
+        if (schema.isMissingNode()) {
+            return null;
+        }
+        final Hasher hasher = Hashing.sha256().newHasher();
+        put(hasher, options);
+        putClosure(hasher, schema);
+        // parents render their children, e.g. for discriminators
+        final List<String> referrers = getAllOfReferrers().get(name);
+        if (referrers != null) {
+            for (String referrer : referrers) {
+                put(hasher, referrer);
+                put(hasher, components.path("schemas").path(referrer).toString());
+            }
+        }
+        return hasher.hash().toString();
+    }
+
+    String operation(String resourcePath, String httpMethod, Operation operation) {
+        final Hasher hasher = Hashing.sha256().newHasher();
+        put(hasher, resourcePath);
+        put(hasher, httpMethod);
+        putClosure(hasher, Json.mapper().valueToTree(operation));
+        return hasher.hash().toString();
+    }
+
+    /**
+     * @param operations fingerprints of the operations of the api, in the order they are rendered
+     * @return fingerprint of the api
+     */
+    String api(List<String> operations) {
+        final List<String> parts = new ArrayList<>(operations.size() + 1);
+        parts.add(apiGlobals);
+        parts.addAll(operations);
+        return hash(parts.toArray(new String[parts.size()]));
+    }
+
+    String supportingFiles() {
+        return spec;
+    }
+
+    /**
+     * @return fingerprint of a file rendered with the given template, or null if the inputs are unknown
+     */
+    String file(String inputs, String templateFile, Template template) {
+        if (inputs == null) {
+            return null;
+        }
+        String templateFingerprint = templates.get(templateFile);
+        if (templateFingerprint == null) {
+            templateFingerprint = template(template.text());
+            templates.put(templateFile, templateFingerprint);
+        }
+        return hash(inputs, templateFile, templateFingerprint);
+    }
+
+    /**
+     * Hashes the template source and the sources of the partials it includes, transitively.
+     */
+    private String template(String text) {
+        final Hasher hasher = Hashing.sha256().newHasher();
+        put(hasher, text);
+        final Set<String> visited = new HashSet<>();
+        final List<String> pending = new ArrayList<>();
+        collectPartials(text, pending);
+        while (!pending.isEmpty()) {
+            final String partial = pending.remove(0);
+            if (!visited.add(partial)) {
+                continue;
+            }
+            final String source = partialSource(partial);
+            put(hasher, partial);
+            put(hasher, source);
+            collectPartials(source, pending);
+        }
+        return hasher.hash().toString();
+    }
+
+    private String partialSource(String partial) {
+        String source = partials.get(partial);
+        if (source == null) {
+            try {
+                source = templateLoader.sourceAt(partial).content(StandardCharsets.UTF_8);
+            } catch (IOException e) {
+                // rendering fails on missing partials
+                source = "";
+            }
+            partials.put(partial, source);
+        }
+        return source;
+    }
+
+    private static void collectPartials(String text, List<String> partials) {
+        final Matcher matcher = PARTIAL_PATTERN.matcher(text);
+        while (matcher.find()) {
+            partials.add(matcher.group(1));
+        }
+    }
+
+    private void putClosure(Hasher hasher, JsonNode node) {
+        put(hasher, node.toString());
+        final Set<String> visited = new LinkedHashSet<>();
+        final List<String> pending = new ArrayList<>();
+        collectRefs(node, pending);
+        while (!pending.isEmpty()) {
+            final String ref = pending.remove(0);
+            if (!visited.add(ref)) {
+                continue;
+            }
+            put(hasher, ref);
+            if (!ref.startsWith(COMPONENTS_REF_PREFIX + "/")) {
+                continue;
+            }
+            final JsonNode referenced = components.at(ref.substring(COMPONENTS_REF_PREFIX.length()));
+            put(hasher, referenced.toString());
+            collectRefs(referenced, pending);
+        }
+    }
+
+    private static void collectRefs(JsonNode node, List<String> refs) {
+        if (node.isObject()) {
+            final JsonNode ref = node.get("$ref");
+            if (ref != null && ref.isTextual()) {
+                refs.add(ref.asText());
+            }
+        }
+        if (node.isContainerNode()) {
+            for (JsonNode child : node) {
+                collectRefs(child, refs);
+            }
+        }
+    }
+
+    private Map<String, List<String>> getAllOfReferrers() {
+        if (allOfReferrers == null) {
+            allOfReferrers = new HashMap<>();
+            final Iterator<Map.Entry<String, JsonNode>> schemas = components.path("schemas").fields();
+            while (schemas.hasNext()) {
+                final Map.Entry<String, JsonNode> schema = schemas.next();
+                collectAllOfReferrers(schema.getKey(), schema.getValue());
+            }
+        }
+        return allOfReferrers;
+    }
+
+    private void collectAllOfReferrers(String referrer, JsonNode node) {
+        if (node.isObject() && node.path("allOf").isArray()) {
+            for (JsonNode element : node.get("allOf")) {
+                final String ref = element.path("$ref").asText();
+                if (ref.startsWith(SCHEMA_REF_PREFIX)) {
+                    final String name = ref.substring(SCHEMA_REF_PREFIX.length());
+                    List<String> referrers = allOfReferrers.get(name);
+                    if (referrers == null) {
+                        referrers = new ArrayList<>();
+                        allOfReferrers.put(name, referrers);
+                    }
+                    referrers.add(referrer);
+                }
+            }
+        }
+        if (node.isContainerNode()) {
+            for (JsonNode child : node) {
+                collectAllOfReferrers(referrer, child);
+            }
+        }
+    }
+
+    private static String describeOptions(CodegenConfig config) {
+        final StringBuilder sb = new StringBuilder();
+        sb.append(ImplementationVersion.read()).append('\n');
+        sb.append(config.getClass().getName()).append('\n');
+        sb.append(config.getLibrary()).append('\n');
+        sb.append(config.templateDir()).append('\n');
+        sb.append(config.embeddedTemplateDir()).append('\n');
+        final Map<String, Object> properties = new TreeMap<>(config.additionalProperties());
+        properties.keySet().removeAll(VOLATILE_PROPERTIES);
+        describe(sb.append("additionalProperties="), properties);
+        describe(sb.append("\nvendorExtensions="), config.vendorExtensions());
+        describe(sb.append("\ntypeMapping="), config.typeMapping());
+        describe(sb.append("\ninstantiationTypes="), config.instantiationTypes());
+        describe(sb.append("\nimportMapping="), config.importMapping());
+        describe(sb.append("\nreservedWordsMappings="), config.reservedWordsMappings());
+        describe(sb.append("\nlanguageSpecificPrimitives="), config.languageSpecificPrimitives());
+        return sb.toString();
+    }
+
+    /**
+     * Describes option values deterministically; objects without a stable string representation, such
+     * as lambdas registered by the codegen, are described by their class only.
+     */
+    private static void describe(StringBuilder sb, Object value) {
+        if (value == null || value instanceof CharSequence || value instanceof Number || value instanceof Boolean
+                || value instanceof Character || value instanceof Enum) {
+            sb.append(value);
+        } else if (value instanceof Map) {
+            final Map<String, Object> sorted = new TreeMap<>();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                sorted.put(String.valueOf(entry.getKey()), entry.getValue());
+            }
+            sb.append('{');
+            for (Map.Entry<String, Object> entry : sorted.entrySet()) {
+                sb.append(entry.getKey()).append('=');
+                describe(sb, entry.getValue());
+                sb.append(',');
+            }
+            sb.append('}');
+        } else if (value instanceof Set) {
+            final Set<String> sorted = new TreeSet<>();
+            for (Object element : (Set<?>) value) {
+                final StringBuilder elementDescription = new StringBuilder();
+                describe(elementDescription, element);
+                sorted.add(elementDescription.toString());
+            }
+            sb.append(sorted);
+        } else if (value instanceof Collection) {
+            sb.append('[');
+            for (Object element : (Collection<?>) value) {
+                describe(sb, element);
+                sb.append(',');
+            }
+            sb.append(']');
+        } else {
+            sb.append('<').append(value.getClass().getName()).append('>');
+        }
+    }
+
+    private static String toJson(Object value) {
+        return value == null ? "" : Json.mapper().valueToTree(value).toString();
+    }
+
+    private static String hash(String... parts) {
+        final Hasher hasher = Hashing.sha256().newHasher();
+        for (String part : parts) {
+            put(hasher, part);
+        }
+        return hasher.hash().toString();
+    }
+
+    private static void put(Hasher hasher, String value) {
+        final String part = value == null ? "" : value;
+        hasher.putInt(part.length());
+        hasher.putString(part, StandardCharsets.UTF_8);
+    }
+}
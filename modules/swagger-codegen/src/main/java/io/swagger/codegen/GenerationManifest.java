@@ -0,0 +1,113 @@
+package io.swagger.codegen;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Input fingerprints of the files written by an incremental generation, stored in
+ * <code>.swagger-codegen/MANIFEST</code> next to <code>.swagger-codegen/VERSION</code>.
+ * <p>
+ * Each line holds the fingerprint and the path of a generated file relative to the output folder.
+ * Entries of files not generated in a run are kept, so runs restricted to models, apis or supporting
+ * files don't invalidate the rest of the output.
+ */
+class GenerationManifest {
+    private static final Logger LOGGER = LoggerFactory.getLogger(GenerationManifest.class);
+
+    static final String METADATA_FOLDER = ".swagger-codegen";
+    static final String FILENAME = "MANIFEST";
+    private static final String SEPARATOR = "  ";
+
+    private final Path outputFolder;
+    private final File file;
+    private final Map<String, String> fingerprints = new TreeMap<>();
+
+    private GenerationManifest(String outputFolder) {
+        this.outputFolder = new File(outputFolder).toPath().toAbsolutePath().normalize();
+        this.file = getFile(outputFolder);
+    }
+
+    static GenerationManifest load(String outputFolder) {
+        final GenerationManifest manifest = new GenerationManifest(outputFolder);
+        if (!manifest.file.isFile()) {
+            return manifest;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(manifest.file.toPath(), StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                final int index = line.indexOf(SEPARATOR);
+                if (line.startsWith("#") || index < 0) {
+                    continue;
+                }
+                manifest.fingerprints.put(line.substring(index + SEPARATOR.length()), line.substring(0, index));
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Could not read " + manifest.file + ", all files will be generated", e);
+            manifest.fingerprints.clear();
+        }
+        return manifest;
+    }
+
+    /**
+     * Removes the manifest of an earlier incremental generation, since its fingerprints no longer
+     * describe the files once they are generated in non incremental mode.
+     */
+    static void delete(String outputFolder) {
+        final File file = getFile(outputFolder);
+        if (file.isFile() && !file.delete()) {
+            LOGGER.warn("Could not delete " + file);
+        }
+    }
+
+    /**
+     * @return true if the file exists and was generated from inputs with the given fingerprint
+     */
+    boolean isUpToDate(String filename, String fingerprint) {
+        return fingerprint != null && fingerprint.equals(fingerprints.get(key(filename))) && new File(filename).isFile();
+    }
+
+    /**
+     * @param fingerprint input fingerprint of the file, null if unknown
+     */
+    void record(String filename, String fingerprint) {
+        if (fingerprint == null) {
+            fingerprints.remove(key(filename));
+        } else {
+            fingerprints.put(key(filename), fingerprint);
+        }
+    }
+
+    void save() throws IOException {
+        final File parent = file.getParentFile();
+        if (!parent.isDirectory()) {
+            parent.mkdirs();
+        }
+        try (BufferedWriter writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+            writer.write("# Input fingerprints of the generated files, used for incremental generation");
+            writer.newLine();
+            for (Map.Entry<String, String> entry : fingerprints.entrySet()) {
+                writer.write(entry.getValue() + SEPARATOR + entry.getKey());
+                writer.newLine();
+            }
+        }
+    }
+
+    private String key(String filename) {
+        final Path path = new File(filename).toPath().toAbsolutePath().normalize();
+        return outputFolder.relativize(path).toString().replace(File.separatorChar, '/');
+    }
+
+    private static File getFile(String outputFolder) {
+        return new File(outputFolder + File.separator + METADATA_FOLDER + File.separator + FILENAME);
+    }
+}
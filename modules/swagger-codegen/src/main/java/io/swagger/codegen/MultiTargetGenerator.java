@@ -0,0 +1,73 @@
+package io.swagger.codegen;
+
+import io.swagger.codegen.config.CodegenConfigurator;
+import io.swagger.codegen.output.OutputSink;
+import io.swagger.codegen.utils.OpenAPISnapshot;
+import io.swagger.v3.oas.models.OpenAPI;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Generates several targets, e.g. a client in each language, from a single parse of the spec. The spec is parsed
+ * and resolved once, and each target generates from its own copy of it.
+ * <p>
+ * Targets are configured with a {@link CodegenConfigurator} each, whose input spec is only passed to the codegen.
+ * A configurator can be changed and used again for the next target.
+ */
+public class MultiTargetGenerator {
+    private final OpenAPISnapshot snapshot;
+
+    /**
+     * @param openAPI parsed spec, may be modified once the generator is created
+     */
+    public MultiTargetGenerator(OpenAPI openAPI) {
+        this.snapshot = new OpenAPISnapshot(openAPI);
+    }
+
+    /**
+     * @param configurator configurator whose input spec is parsed and resolved
+     * @return generator of the targets of the spec
+     */
+    public static MultiTargetGenerator forSpec(CodegenConfigurator configurator) {
+        return new MultiTargetGenerator(configurator.readOpenAPI());
+    }
+
+    /**
+     * @param target configurator of the target
+     * @return generation input of the target, over a new copy of the spec
+     */
+    public ClientOptInput toClientOptInput(CodegenConfigurator target) {
+        return target.toClientOptInput(snapshot.copy());
+    }
+
+    /**
+     * @param target configurator of the target
+     * @return generated files
+     */
+    public List<File> generate(CodegenConfigurator target) {
+        return new DefaultGenerator().opts(toClientOptInput(target)).generate();
+    }
+
+    /**
+     * @param target configurator of the target
+     * @param outputSink sink receiving the files, e.g. a zip shared by all targets
+     * @return generated files
+     */
+    public List<File> generate(CodegenConfigurator target, OutputSink outputSink) {
+        return new DefaultGenerator().opts(toClientOptInput(target).outputSink(outputSink)).generate();
+    }
+
+    /**
+     * @param targets configurators of the targets, each with its own output folder
+     * @return files generated by all targets
+     */
+    public List<File> generate(List<CodegenConfigurator> targets) {
+        final List<File> files = new ArrayList<>();
+        for (CodegenConfigurator target : targets) {
+            files.addAll(generate(target));
+        }
+        return files;
+    }
+}
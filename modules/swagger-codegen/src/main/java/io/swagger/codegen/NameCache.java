@@ -0,0 +1,108 @@
+package io.swagger.codegen;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Memoizes the naming hooks of a codegen, e.g. {@link CodegenConfig#toModelName(String)}. The hooks are pure functions
+ * of their input and of the codegen options, but the same names are converted over and over, e.g. by the comparator
+ * sorting the models.
+ * <p>
+ * Memoization is opt-in, with {@link CodegenConstants#MEMOIZE_NAMES}; while disabled, the methods call the hooks.
+ * The codegen clears the cache when it processes its options.
+ */
+public class NameCache {
+    private final Memo modelNames;
+    private final Memo varNames;
+    private final Memo paramNames;
+    private final Memo modelFilenames;
+    private final Memo modelImports;
+    private final Memo apiNames;
+    private volatile boolean enabled;
+
+    public NameCache(CodegenConfig config) {
+        this.modelNames = new Memo(config::toModelName);
+        this.varNames = new Memo(config::toVarName);
+        this.paramNames = new Memo(config::toParamName);
+        this.modelFilenames = new Memo(config::toModelFilename);
+        this.modelImports = new Memo(config::toModelImport);
+        this.apiNames = new Memo(config::toApiName);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @param enabled whether to memoize the names; the names memoized so far are cleared
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        clear();
+    }
+
+    /**
+     * Clears the memoized names, e.g. after options the names depend on changed.
+     */
+    public void clear() {
+        modelNames.clear();
+        varNames.clear();
+        paramNames.clear();
+        modelFilenames.clear();
+        modelImports.clear();
+        apiNames.clear();
+    }
+
+    public String toModelName(String name) {
+        return modelNames.get(name);
+    }
+
+    public String toVarName(String name) {
+        return varNames.get(name);
+    }
+
+    public String toParamName(String name) {
+        return paramNames.get(name);
+    }
+
+    public String toModelFilename(String name) {
+        return modelFilenames.get(name);
+    }
+
+    public String toModelImport(String name) {
+        return modelImports.get(name);
+    }
+
+    public String toApiName(String name) {
+        return apiNames.get(name);
+    }
+
+    private class Memo {
+        private final Function<String, String> hook;
+        private final Map<String, String> names = new ConcurrentHashMap<>();
+
+        Memo(Function<String, String> hook) {
+            this.hook = hook;
+        }
+
+        String get(String name) {
+            if (!enabled || name == null) {
+                return hook.apply(name);
+            }
+            String result = names.get(name);
+            if (result == null) {
+                // not computeIfAbsent: hooks may call other memoized hooks
+                result = hook.apply(name);
+                if (result != null) {
+                    names.put(name, result);
+                }
+            }
+            return result;
+        }
+
+        void clear() {
+            names.clear();
+        }
+    }
+}
@@ -0,0 +1,260 @@
+package io.swagger.codegen;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Vendor extension map storing the boolean <code>x-is-*</code>/<code>x-has-*</code> flags declared in
+ * {@link CodegenConstants} as bits instead of map entries.
+ * <p>
+ * Flags are only stored as bits when put with a {@link Boolean} value; everything else (including flags
+ * with other value types and user defined extensions) is kept in a plain map. The map view is unchanged,
+ * so existing code reading or writing <code>getVendorExtensions()</code> keeps working.
+ */
+public class VendorExtensionMap extends AbstractMap<String, Object> {
+
+    private static final Map<String, Integer> FLAG_INDEX;
+    private static final String[] FLAG_NAMES;
+
+    static {
+        final Map<String, Integer> index = new HashMap<>();
+        for (Field field : CodegenConstants.class.getFields()) {
+            if (!Modifier.isStatic(field.getModifiers()) || field.getType() != String.class) {
+                continue;
+            }
+            final String name;
+            try {
+                name = (String) field.get(null);
+            } catch (IllegalAccessException e) {
+                continue;
+            }
+            if (name != null && (name.startsWith(VendorExtendable.PREFIX_IS) || name.startsWith(VendorExtendable.PREFIX_HAS))
+                    && !index.containsKey(name)) {
+                index.put(name, index.size());
+            }
+        }
+        FLAG_NAMES = new String[index.size()];
+        for (Map.Entry<String, Integer> entry : index.entrySet()) {
+            FLAG_NAMES[entry.getValue()] = entry.getKey();
+        }
+        FLAG_INDEX = Collections.unmodifiableMap(index);
+    }
+
+    private final BitSet present = new BitSet(FLAG_NAMES.length);
+    private final BitSet values = new BitSet(FLAG_NAMES.length);
+    private Map<String, Object> others;
+
+    public VendorExtensionMap() {
+    }
+
+    public VendorExtensionMap(Map<String, Object> extensions) {
+        if (extensions != null) {
+            putAll(extensions);
+        }
+    }
+
+    /**
+     * Returns the boolean value of the extension, without boxing for flags stored as bits. Other values
+     * are parsed from their string representation.
+     *
+     * @param key extension name
+     * @return true if the extension is set to true
+     */
+    public boolean getBoolean(String key) {
+        final Integer index = FLAG_INDEX.get(key);
+        if (index != null && present.get(index)) {
+            return values.get(index);
+        }
+        final Object value = others == null ? null : others.get(key);
+        return value != null && Boolean.parseBoolean(value.toString());
+    }
+
+    @Override
+    public Object get(Object key) {
+        final Integer index = FLAG_INDEX.get(key);
+        if (index != null && present.get(index)) {
+            return values.get(index);
+        }
+        return others == null ? null : others.get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        final Integer index = FLAG_INDEX.get(key);
+        if (index != null && present.get(index)) {
+            return true;
+        }
+        return others != null && others.containsKey(key);
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        final Integer index = FLAG_INDEX.get(key);
+        if (index != null && value instanceof Boolean) {
+            final Object previous = removeOther(key);
+            final Object result = present.get(index) ? Boolean.valueOf(values.get(index)) : previous;
+            present.set(index);
+            values.set(index, (Boolean) value);
+            return result;
+        }
+        final Object previous = index != null ? clearFlag(index) : null;
+        if (others == null) {
+            others = new HashMap<>();
+        }
+        final Object result = others.put(key, value);
+        return previous != null ? previous : result;
+    }
+
+    @Override
+    public Object remove(Object key) {
+        final Integer index = FLAG_INDEX.get(key);
+        if (index != null && present.get(index)) {
+            return clearFlag(index);
+        }
+        return removeOther(key);
+    }
+
+    @Override
+    public void clear() {
+        present.clear();
+        values.clear();
+        others = null;
+    }
+
+    @Override
+    public int size() {
+        return present.cardinality() + (others == null ? 0 : others.size());
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return new AbstractSet<Entry<String, Object>>() {
+            @Override
+            public Iterator<Entry<String, Object>> iterator() {
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size() {
+                return VendorExtensionMap.this.size();
+            }
+        };
+    }
+
+    private Object clearFlag(int index) {
+        if (!present.get(index)) {
+            return null;
+        }
+        final Boolean previous = values.get(index);
+        present.clear(index);
+        values.clear(index);
+        return previous;
+    }
+
+    private Object removeOther(Object key) {
+        return others == null ? null : others.remove(key);
+    }
+
+    private class EntryIterator implements Iterator<Entry<String, Object>> {
+        private int nextFlag = present.nextSetBit(0);
+        private int lastFlag = -1;
+        private Iterator<Entry<String, Object>> otherIterator;
+        private boolean lastFromOthers;
+
+        @Override
+        public boolean hasNext() {
+            return nextFlag >= 0 || others().hasNext();
+        }
+
+        @Override
+        public Entry<String, Object> next() {
+            if (nextFlag >= 0) {
+                lastFlag = nextFlag;
+                lastFromOthers = false;
+                nextFlag = present.nextSetBit(nextFlag + 1);
+                return new FlagEntry(lastFlag);
+            }
+            if (!others().hasNext()) {
+                throw new NoSuchElementException();
+            }
+            lastFlag = -1;
+            lastFromOthers = true;
+            return otherIterator.next();
+        }
+
+        @Override
+        public void remove() {
+            if (lastFromOthers) {
+                otherIterator.remove();
+                lastFromOthers = false;
+            } else if (lastFlag >= 0) {
+                clearFlag(lastFlag);
+                lastFlag = -1;
+            } else {
+                throw new IllegalStateException();
+            }
+        }
+
+        private Iterator<Entry<String, Object>> others() {
+            if (otherIterator == null) {
+                otherIterator = others == null
+                        ? Collections.<Entry<String, Object>>emptyIterator()
+                        : others.entrySet().iterator();
+            }
+            return otherIterator;
+        }
+    }
+
+    private class FlagEntry implements Entry<String, Object> {
+        private final int index;
+
+        FlagEntry(int index) {
+            this.index = index;
+        }
+
+        @Override
+        public String getKey() {
+            return FLAG_NAMES[index];
+        }
+
+        @Override
+        public Object getValue() {
+            return present.get(index) ? Boolean.valueOf(values.get(index)) : null;
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            return put(getKey(), value);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Entry)) {
+                return false;
+            }
+            final Entry<?, ?> that = (Entry<?, ?>) o;
+            return getKey().equals(that.getKey()) && Objects.equals(getValue(), that.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            final Object value = getValue();
+            return getKey().hashCode() ^ (value == null ? 0 : value.hashCode());
+        }
+
+        @Override
+        public String toString() {
+            return getKey() + "=" + getValue();
+        }
+    }
+}
@@ -2,6 +2,8 @@ package io.swagger.codegen.config;
 
 import com.fasterxml.jackson.annotation.JsonAnyGetter;
 import com.fasterxml.jackson.annotation.JsonAnySetter;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import io.swagger.codegen.CliOption;
 import io.swagger.codegen.ClientOptInput;
 import io.swagger.codegen.ClientOpts;
@@ -9,6 +11,7 @@ import io.swagger.codegen.CodegenArgument;
 import io.swagger.codegen.CodegenConfig;
 import io.swagger.codegen.CodegenConfigLoader;
 import io.swagger.codegen.CodegenConstants;
+import io.swagger.codegen.GenerationContext;
 import io.swagger.codegen.auth.AuthParser;
 import io.swagger.parser.OpenAPIParser;
 import io.swagger.v3.oas.models.OpenAPI;
@@ -17,6 +20,7 @@ import io.swagger.v3.parser.core.models.AuthorizationValue;
 import io.swagger.v3.parser.core.models.ParseOptions;
 import io.swagger.v3.parser.core.models.SwaggerParseResult;
 import io.swagger.v3.parser.OpenAPIV3Parser;
+import io.swagger.v3.parser.util.OpenAPIDeserializer;
 import org.apache.commons.lang3.Validate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -49,6 +53,10 @@ public class CodegenConfigurator implements Serializable {
     private boolean verbose;
     private boolean skipOverwrite;
     private boolean removeOperationIdPrefix;
+    private int workers = 1;
+    private boolean incremental;
+    private boolean skipIdenticalFiles;
+    private boolean exportSystemProperties;
     private String templateDir;
     private String templateVersion;
     private String auth;
@@ -132,6 +140,48 @@ public class CodegenConfigurator implements Serializable {
         return this;
     }
 
+    public int getWorkers() {
+        return workers;
+    }
+
+    public CodegenConfigurator setWorkers(int workers) {
+        this.workers = workers;
+        return this;
+    }
+
+    public boolean isIncremental() {
+        return incremental;
+    }
+
+    public CodegenConfigurator setIncremental(boolean incremental) {
+        this.incremental = incremental;
+        return this;
+    }
+
+    public boolean isSkipIdenticalFiles() {
+        return skipIdenticalFiles;
+    }
+
+    public CodegenConfigurator setSkipIdenticalFiles(boolean skipIdenticalFiles) {
+        this.skipIdenticalFiles = skipIdenticalFiles;
+        return this;
+    }
+
+    public boolean isExportSystemProperties() {
+        return exportSystemProperties;
+    }
+
+    /**
+     * Also set the system properties and verbose flags as JVM-wide system properties, for codegen configs
+     * that still read them with System.getProperty. Not suited for generations running in parallel.
+     * @param exportSystemProperties true to call System.setProperty for the generation switches
+     * @return this configurator
+     */
+    public CodegenConfigurator setExportSystemProperties(boolean exportSystemProperties) {
+        this.exportSystemProperties = exportSystemProperties;
+        return this;
+    }
+
     public String getModelNameSuffix() {
         return modelNameSuffix;
     }
@@ -256,6 +306,18 @@ public class CodegenConfigurator implements Serializable {
         return this;
     }
 
+    /**
+     * Unsets a generation switch, e.g. <code>models</code>, for this generation only, even if it is set as JVM-wide
+     * system property.
+     *
+     * @param key property name
+     * @return this configurator
+     */
+    public CodegenConfigurator clearSystemProperty(String key) {
+        this.systemProperties.put(key, null);
+        return this;
+    }
+
     public Map<String, String> getInstantiationTypes() {
         return instantiationTypes;
     }
@@ -397,52 +459,40 @@ public class CodegenConfigurator implements Serializable {
     public ClientOptInput toClientOptInput() {
 
         Validate.notEmpty(lang, "language must be specified");
-        Validate.notEmpty(inputSpec, "input spec must be specified");
-
-        setVerboseFlags();
-        setSystemProperties();
 
-        CodegenConfig config = CodegenConfigLoader.forName(lang);
+        return toClientOptInput(readOpenAPI());
+    }
 
-        config.setInputSpec(inputSpec);
-        config.setOutputDir(outputDir);
-        config.setSkipOverwrite(skipOverwrite);
-        config.setIgnoreFilePathOverride(ignoreFileOverride);
-        config.setRemoveOperationIdPrefix(removeOperationIdPrefix);
+    public ClientOptInput toClientOptInput(String content) {
 
-        config.instantiationTypes().putAll(instantiationTypes);
-        config.typeMapping().putAll(typeMappings);
-        config.importMapping().putAll(importMappings);
-        config.languageSpecificPrimitives().addAll(languageSpecificPrimitives);
-        config.reservedWordsMappings().putAll(reservedWordMappings);
+        Validate.notEmpty(lang, "language must be specified");
 
-        config.setLanguageArguments(codegenArguments);
+        return toClientOptInput(readOpenAPI(content));
+    }
 
-        checkAndSetAdditionalProperty(apiPackage, CodegenConstants.API_PACKAGE);
-        checkAndSetAdditionalProperty(modelPackage, CodegenConstants.MODEL_PACKAGE);
-        checkAndSetAdditionalProperty(invokerPackage, CodegenConstants.INVOKER_PACKAGE);
-        checkAndSetAdditionalProperty(groupId, CodegenConstants.GROUP_ID);
-        checkAndSetAdditionalProperty(artifactId, CodegenConstants.ARTIFACT_ID);
-        checkAndSetAdditionalProperty(artifactVersion, CodegenConstants.ARTIFACT_VERSION);
-        checkAndSetAdditionalProperty(templateDir, toAbsolutePathStr(templateDir), CodegenConstants.TEMPLATE_DIR);
-        checkAndSetAdditionalProperty(templateVersion, CodegenConstants.TEMPLATE_VERSION);
-        checkAndSetAdditionalProperty(modelNamePrefix, CodegenConstants.MODEL_NAME_PREFIX);
-        checkAndSetAdditionalProperty(modelNameSuffix, CodegenConstants.MODEL_NAME_SUFFIX);
-        checkAndSetAdditionalProperty(gitUserId, CodegenConstants.GIT_USER_ID);
-        checkAndSetAdditionalProperty(gitRepoId, CodegenConstants.GIT_REPO_ID);
-        checkAndSetAdditionalProperty(releaseNote, CodegenConstants.RELEASE_NOTE);
-        checkAndSetAdditionalProperty(httpUserAgent, CodegenConstants.HTTP_USER_AGENT);
+    /**
+     * Same as {@link #toClientOptInput(String)} for a spec already read into a tree, e.g. from a request body.
+     * OpenAPI 3 specs are deserialized from the tree directly instead of being written to a string and parsed again.
+     *
+     * @param spec spec contents
+     * @return generation input
+     */
+    public ClientOptInput toClientOptInput(JsonNode spec) {
 
-        handleDynamicProperties(config);
+        Validate.notEmpty(lang, "language must be specified");
 
-        if (isNotEmpty(library)) {
-            config.setLibrary(library);
-        }
+        return toClientOptInput(readOpenAPI(spec));
+    }
 
-        config.additionalProperties().putAll(additionalProperties);
+    /**
+     * Parses and resolves the input spec, without creating the codegen config. Used to generate several targets
+     * from a single parse, see {@link io.swagger.codegen.MultiTargetGenerator}.
+     *
+     * @return parsed spec
+     */
+    public OpenAPI readOpenAPI() {
 
-        ClientOptInput input = new ClientOptInput()
-                .config(config);
+        Validate.notEmpty(inputSpec, "input spec must be specified");
 
         final List<AuthorizationValue> authorizationValues = AuthParser.parse(auth);
 
@@ -450,23 +500,58 @@ public class CodegenConfigurator implements Serializable {
         options.setResolve(true);
         options.setFlatten(true);
         SwaggerParseResult result = new OpenAPIParser().readLocation(inputSpec, authorizationValues, options);
-        OpenAPI openAPI = result.getOpenAPI();
+        return result.getOpenAPI();
+    }
 
-        input.opts(new ClientOpts())
-                .openAPI(openAPI);
+    /**
+     * @param content spec contents
+     * @return parsed spec
+     */
+    public OpenAPI readOpenAPI(String content) {
 
-        return input;
+        final List<AuthorizationValue> authorizationValues = AuthParser.parse(auth);
+
+        SwaggerParseResult result = new OpenAPIParser().readContents(content, authorizationValues, null);
+        return result.getOpenAPI();
     }
 
-    public ClientOptInput toClientOptInput(String content) {
+    /**
+     * @param spec spec contents
+     * @return parsed spec
+     */
+    public OpenAPI readOpenAPI(JsonNode spec) {
+
+        Validate.notNull(spec, "input spec must be specified");
+
+        if (!spec.has("openapi")) {
+            // swagger 2.0 specs are converted by the parser extensions, which only read text
+            try {
+                return readOpenAPI(Json.mapper().writeValueAsString(spec));
+            } catch (JsonProcessingException e) {
+                throw new IllegalArgumentException("Could not read input spec", e);
+            }
+        }
+        SwaggerParseResult result = new OpenAPIDeserializer().deserialize(spec);
+        return result.getOpenAPI();
+    }
+
+    /**
+     * The input spec, if set, is only passed to the codegen, e.g. to name the spec in the generated files.
+     *
+     * @param openAPI parsed spec, used as is
+     * @return generation input
+     */
+    public ClientOptInput toClientOptInput(OpenAPI openAPI) {
 
         Validate.notEmpty(lang, "language must be specified");
 
-        setVerboseFlags();
-        setSystemProperties();
+        final GenerationContext generationContext = createGenerationContext();
 
         CodegenConfig config = CodegenConfigLoader.forName(lang);
 
+        if (isNotEmpty(inputSpec)) {
+            config.setInputSpec(inputSpec);
+        }
         config.setOutputDir(outputDir);
         config.setSkipOverwrite(skipOverwrite);
         config.setIgnoreFilePathOverride(ignoreFileOverride);
@@ -506,13 +591,12 @@ public class CodegenConfigurator implements Serializable {
         ClientOptInput input = new ClientOptInput()
                 .config(config);
 
-        final List<AuthorizationValue> authorizationValues = AuthParser.parse(auth);
-
-        SwaggerParseResult result = new OpenAPIParser().readContents(content, authorizationValues, null);
-        OpenAPI openAPI = result.getOpenAPI();
-
         input.opts(new ClientOpts())
-                .openAPI(openAPI);
+                .openAPI(openAPI)
+                .workers(workers)
+                .incremental(incremental)
+                .skipIdenticalFiles(skipIdenticalFiles)
+                .generationContext(generationContext);
 
         return input;
     }
@@ -534,38 +618,42 @@ public class CodegenConfigurator implements Serializable {
             if (dynamicProperties.containsKey(opt)) {
                 codegenConfig.additionalProperties().put(opt, dynamicProperties.get(opt));
             }
-            else if(systemProperties.containsKey(opt)) {
+            else if(systemProperties.get(opt) != null) {
                 codegenConfig.additionalProperties().put(opt, systemProperties.get(opt));
             }
         }
     }
 
-    private void setVerboseFlags() {
-        if (!verbose) {
-            return;
-        }
-        LOGGER.info("\nVERBOSE MODE: ON. Additional debug options are injected" +
-                "\n - [debugSwagger] prints the swagger specification as interpreted by the codegen" +
-                "\n - [debugModels] prints models passed to the template engine" +
-                "\n - [debugOperations] prints operations passed to the template engine" +
-                "\n - [debugSupportingFiles] prints additional data passed to the template engine");
+    private GenerationContext createGenerationContext() {
+        final GenerationContext generationContext = new GenerationContext(systemProperties);
+        if (verbose) {
+            LOGGER.info("\nVERBOSE MODE: ON. Additional debug options are injected" +
+                    "\n - [debugSwagger] prints the swagger specification as interpreted by the codegen" +
+                    "\n - [debugModels] prints models passed to the template engine" +
+                    "\n - [debugOperations] prints operations passed to the template engine" +
+                    "\n - [debugSupportingFiles] prints additional data passed to the template engine");
 
-        System.setProperty("debugSwagger", "");
-        System.setProperty("debugModels", "");
-        System.setProperty("debugOperations", "");
-        System.setProperty("debugSupportingFiles", "");
+            generationContext.setProperty("debugSwagger", "");
+            generationContext.setProperty("debugModels", "");
+            generationContext.setProperty("debugOperations", "");
+            generationContext.setProperty("debugSupportingFiles", "");
+        }
+        if (exportSystemProperties) {
+            for (Map.Entry<String, String> entry : generationContext.getProperties().entrySet()) {
+                if (entry.getValue() == null) {
+                    System.clearProperty(entry.getKey());
+                } else {
+                    System.setProperty(entry.getKey(), entry.getValue());
+                }
+            }
+        }
+        return generationContext;
     }
 
     public void setCodegenArguments(List<CodegenArgument> codegenArguments) {
         this.codegenArguments = codegenArguments;
     }
 
-    private void setSystemProperties() {
-        for (Map.Entry<String, String> entry : systemProperties.entrySet()) {
-            System.setProperty(entry.getKey(), entry.getValue());
-        }
-    }
-
     private static String toAbsolutePathStr(String path) {
         if (isNotEmpty(path)) {
             return Paths.get(path).toAbsolutePath().toString();
@@ -0,0 +1,111 @@
+package io.swagger.codegen.daemon;
+
+import io.swagger.codegen.config.CodegenConfigurator;
+import io.swagger.codegen.utils.ImplementationVersion;
+import io.swagger.v3.core.util.Json;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.apache.commons.lang3.StringUtils.isNotEmpty;
+
+/**
+ * Sends generations to a running {@link GeneratorDaemon}.
+ */
+public class DaemonClient {
+    private final int port;
+    private final String token;
+
+    public DaemonClient(int port, String token) {
+        this.port = port;
+        this.token = token;
+    }
+
+    /**
+     * @param infoFile info file written by the daemon
+     * @return client of the daemon, or null if no daemon is running
+     */
+    public static DaemonClient find(File infoFile) {
+        if (!infoFile.isFile()) {
+            return null;
+        }
+        final Properties info = new Properties();
+        try (InputStream in = new FileInputStream(infoFile)) {
+            info.load(in);
+            return new DaemonClient(Integer.parseInt(info.getProperty(GeneratorDaemon.PORT)), info.getProperty(GeneratorDaemon.TOKEN));
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @return client of the daemon of the current user, or null if no daemon is running
+     */
+    public static DaemonClient find() {
+        return find(GeneratorDaemon.getDefaultInfoFile());
+    }
+
+    /**
+     * Runs the generation in the daemon. Relative paths of the configurator are made absolute first, as the daemon
+     * may run in another folder.
+     *
+     * @param configurator generation to run
+     * @param configOptions values of the codegen's cli options, may be null
+     * @return response of the daemon, telling whether the generation succeeded, or whether the daemon can't run it,
+     * see {@link DaemonResponse#isUnsupported()}
+     * @throws IOException if the daemon can't be reached
+     */
+    public DaemonResponse generate(CodegenConfigurator configurator, Map<String, Object> configOptions) throws IOException {
+        final File inputSpec = isNotEmpty(configurator.getInputSpec()) ? new File(configurator.getInputSpec()) : null;
+        if (inputSpec != null && inputSpec.exists()) {
+            configurator.setInputSpec(inputSpec.getAbsolutePath());
+        }
+        if (isNotEmpty(configurator.getTemplateDir())) {
+            configurator.setTemplateDir(new File(configurator.getTemplateDir()).getAbsolutePath());
+        }
+        if (isNotEmpty(configurator.getIgnoreFileOverride())) {
+            configurator.setIgnoreFileOverride(new File(configurator.getIgnoreFileOverride()).getAbsolutePath());
+        }
+        final DaemonRequest request = new DaemonRequest();
+        request.setCommand(DaemonRequest.Command.GENERATE);
+        request.setConfigurator(configurator);
+        request.setConfigOptions(configOptions);
+        return send(request);
+    }
+
+    /**
+     * @throws IOException if the daemon can't be reached
+     */
+    public void stop() throws IOException {
+        final DaemonRequest request = new DaemonRequest();
+        request.setCommand(DaemonRequest.Command.STOP);
+        send(request);
+    }
+
+    private DaemonResponse send(DaemonRequest request) throws IOException {
+        request.setToken(token);
+        request.setVersion(ImplementationVersion.read());
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port)) {
+            final Writer writer = new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8);
+            writer.write(Json.mapper().writeValueAsString(request));
+            writer.write('\n');
+            writer.flush();
+            final String line = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8)).readLine();
+            if (line == null) {
+                throw new IOException("Generator daemon closed the connection");
+            }
+            return Json.mapper().readValue(line, DaemonResponse.class);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package io.swagger.codegen.daemon;
+
+import io.swagger.codegen.config.CodegenConfigurator;
+
+import java.util.Map;
+
+/**
+ * Request sent to the {@link GeneratorDaemon}, as a single line of JSON.
+ */
+public class DaemonRequest {
+
+    public enum Command {
+        GENERATE, STOP
+    }
+
+    private String token;
+    private String version;
+    private Command command;
+    private CodegenConfigurator configurator;
+    private Map<String, Object> configOptions;
+
+    public String getToken() {
+        return token;
+    }
+
+    public void setToken(String token) {
+        this.token = token;
+    }
+
+    /**
+     * @return implementation version of the client, generations are only run by a daemon of the same version
+     */
+    public String getVersion() {
+        return version;
+    }
+
+    public void setVersion(String version) {
+        this.version = version;
+    }
+
+    public Command getCommand() {
+        return command;
+    }
+
+    public void setCommand(Command command) {
+        this.command = command;
+    }
+
+    /**
+     * @return generation to run, paths must be absolute as the daemon may run in another folder
+     */
+    public CodegenConfigurator getConfigurator() {
+        return configurator;
+    }
+
+    public void setConfigurator(CodegenConfigurator configurator) {
+        this.configurator = configurator;
+    }
+
+    /**
+     * @return values of the codegen's cli options, other entries are ignored
+     */
+    public Map<String, Object> getConfigOptions() {
+        return configOptions;
+    }
+
+    public void setConfigOptions(Map<String, Object> configOptions) {
+        this.configOptions = configOptions;
+    }
+}
@@ -0,0 +1,70 @@
+package io.swagger.codegen.daemon;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+/**
+ * Response of the {@link GeneratorDaemon}, as a single line of JSON.
+ */
+public class DaemonResponse {
+
+    public enum Status {
+        SUCCESS,
+        FAILED,
+        /**
+         * The daemon runs another version than the client, the client should generate itself.
+         */
+        VERSION_MISMATCH,
+        /**
+         * The daemon can't load the language, e.g. from a generator jar only the client has, the client should
+         * generate itself.
+         */
+        UNKNOWN_LANGUAGE
+    }
+
+    private Status status;
+    private String message;
+    private int files;
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    @JsonIgnore
+    public boolean isSuccess() {
+        return status == Status.SUCCESS;
+    }
+
+    /**
+     * @return true if the daemon can't run the generation, so the client should run it itself
+     */
+    @JsonIgnore
+    public boolean isUnsupported() {
+        return status == Status.VERSION_MISMATCH || status == Status.UNKNOWN_LANGUAGE;
+    }
+
+    /**
+     * @return reason of the failure
+     */
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    /**
+     * @return number of generated files
+     */
+    public int getFiles() {
+        return files;
+    }
+
+    public void setFiles(int files) {
+        this.files = files;
+    }
+}
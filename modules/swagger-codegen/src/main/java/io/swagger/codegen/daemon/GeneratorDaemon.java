@@ -0,0 +1,253 @@
+package io.swagger.codegen.daemon;
+
+import io.swagger.codegen.CliOption;
+import io.swagger.codegen.ClientOptInput;
+import io.swagger.codegen.CodegenConfigRegistry;
+import io.swagger.codegen.DefaultGenerator;
+import io.swagger.codegen.config.CodegenConfigurator;
+import io.swagger.codegen.utils.ImplementationVersion;
+import io.swagger.v3.core.util.Json;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Long-lived generator process, so repeated generations from the CLI or the Maven plugin reuse the loaded codegens,
+ * the compiled templates and the JIT-compiled code instead of starting cold.
+ * <p>
+ * The daemon only listens on the loopback interface. Its port and a random token are written to the info file,
+ * readable by the current user only; clients must send the token with each request. Each connection carries a
+ * single {@link DaemonRequest} and its {@link DaemonResponse}, as lines of JSON. Generations requested by a client of
+ * another version, or in a language the daemon can't load, are rejected so the client generates itself.
+ * <p>
+ * The daemon stops on a {@link DaemonRequest.Command#STOP} request, or once it has been idle for the idle timeout.
+ */
+public class GeneratorDaemon implements Closeable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(GeneratorDaemon.class);
+
+    public static final String INFO_FILE_PROPERTY = "swagger.codegen.daemon.file";
+    static final String PORT = "port";
+    static final String TOKEN = "token";
+    // time to wait for the request line of a connection
+    private static final int REQUEST_TIMEOUT = 30000;
+
+    private final ServerSocket serverSocket;
+    private final ExecutorService executor;
+    private final String token = UUID.randomUUID().toString();
+    private final File infoFile;
+    private final AtomicInteger running = new AtomicInteger();
+    private volatile boolean stopped;
+
+    /**
+     * @param port port to listen on, 0 for any free port
+     * @param workers generations running at the same time
+     * @param idleTimeout milliseconds without requests after which the daemon stops, 0 to never stop
+     * @param infoFile file receiving the port and the token
+     * @throws IOException if the port can't be bound or the info file can't be written
+     */
+    public GeneratorDaemon(int port, int workers, int idleTimeout, File infoFile) throws IOException {
+        this.serverSocket = new ServerSocket(port, 50, InetAddress.getLoopbackAddress());
+        this.serverSocket.setSoTimeout(idleTimeout);
+        this.executor = Executors.newFixedThreadPool(workers);
+        this.infoFile = infoFile;
+        writeInfo();
+    }
+
+    /**
+     * @return info file of the daemon of the current user, <code>~/.swagger-codegen/daemon.properties</code> unless
+     * set with the <code>swagger.codegen.daemon.file</code> system property
+     */
+    public static File getDefaultInfoFile() {
+        final String file = System.getProperty(INFO_FILE_PROPERTY);
+        if (file != null) {
+            return new File(file);
+        }
+        return new File(System.getProperty("user.home"), ".swagger-codegen" + File.separator + "daemon.properties");
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * Accepts requests until the daemon is stopped or idle.
+     */
+    public void serve() {
+        LOGGER.info("Generator daemon listening on port " + getPort());
+        while (!stopped) {
+            final Socket socket;
+            try {
+                socket = serverSocket.accept();
+            } catch (SocketTimeoutException e) {
+                if (running.get() == 0) {
+                    LOGGER.info("Generator daemon idle, stopping");
+                    break;
+                }
+                continue;
+            } catch (IOException e) {
+                if (!stopped) {
+                    LOGGER.error("Generator daemon could not accept connections, stopping", e);
+                }
+                break;
+            }
+            running.incrementAndGet();
+            executor.submit(() -> {
+                try {
+                    handle(socket);
+                } finally {
+                    running.decrementAndGet();
+                }
+            });
+        }
+        close();
+    }
+
+    @Override
+    public void close() {
+        stopped = true;
+        infoFile.delete();
+        executor.shutdown();
+        try {
+            serverSocket.close();
+        } catch (IOException e) {
+            LOGGER.debug("Could not close the daemon socket", e);
+        }
+    }
+
+    private void handle(Socket socket) {
+        try (Socket connection = socket) {
+            connection.setSoTimeout(REQUEST_TIMEOUT);
+            final BufferedReader reader = new BufferedReader(new InputStreamReader(connection.getInputStream(), StandardCharsets.UTF_8));
+            final DaemonRequest request = Json.mapper().readValue(reader.readLine(), DaemonRequest.class);
+            final DaemonResponse response = process(request);
+            final Writer writer = new OutputStreamWriter(connection.getOutputStream(), StandardCharsets.UTF_8);
+            writer.write(Json.mapper().writeValueAsString(response));
+            writer.write('\n');
+            writer.flush();
+        } catch (SocketException e) {
+            LOGGER.debug("Daemon client disconnected", e);
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warn("Could not process daemon request", e);
+        }
+    }
+
+    private DaemonResponse process(DaemonRequest request) {
+        final DaemonResponse response = new DaemonResponse();
+        if (request.getToken() == null || !MessageDigest.isEqual(token.getBytes(StandardCharsets.UTF_8), request.getToken().getBytes(StandardCharsets.UTF_8))) {
+            response.setStatus(DaemonResponse.Status.FAILED);
+            response.setMessage("invalid token");
+            return response;
+        }
+        if (request.getCommand() == DaemonRequest.Command.STOP) {
+            stopped = true;
+            try {
+                serverSocket.close();
+            } catch (IOException e) {
+                LOGGER.debug("Could not close the daemon socket", e);
+            }
+            response.setStatus(DaemonResponse.Status.SUCCESS);
+            return response;
+        }
+        final String version = ImplementationVersion.read();
+        if (!version.equals(request.getVersion())) {
+            response.setStatus(DaemonResponse.Status.VERSION_MISMATCH);
+            response.setMessage("daemon version " + version + " differs from client version " + request.getVersion());
+            return response;
+        }
+        final String lang = request.getConfigurator() != null ? request.getConfigurator().getLang() : null;
+        if (lang != null && !isKnownLanguage(lang)) {
+            response.setStatus(DaemonResponse.Status.UNKNOWN_LANGUAGE);
+            response.setMessage("unknown language " + lang);
+            return response;
+        }
+        try {
+            response.setFiles(generate(request.getConfigurator(), request.getConfigOptions()).size());
+            response.setStatus(DaemonResponse.Status.SUCCESS);
+        } catch (RuntimeException e) {
+            LOGGER.error("Generation failed", e);
+            response.setStatus(DaemonResponse.Status.FAILED);
+            response.setMessage(e.getMessage() != null ? e.getMessage() : e.toString());
+        }
+        return response;
+    }
+
+    /**
+     * Same lookup as {@link io.swagger.codegen.CodegenConfigLoader#forName(String)}, without instantiating the config.
+     */
+    private static boolean isKnownLanguage(String lang) {
+        if (CodegenConfigRegistry.getInstance().get(lang) != null) {
+            return true;
+        }
+        try {
+            Class.forName(lang);
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    private static List<File> generate(CodegenConfigurator configurator, Map<String, Object> configOptions) {
+        // generations run in parallel, their switches are kept in their own generation context
+        configurator.setExportSystemProperties(false);
+        final ClientOptInput input = configurator.toClientOptInput();
+        if (configOptions != null) {
+            for (CliOption cliOption : input.getConfig().cliOptions()) {
+                if (configOptions.containsKey(cliOption.getOpt())) {
+                    input.getConfig().additionalProperties().put(cliOption.getOpt(), configOptions.get(cliOption.getOpt()));
+                }
+            }
+        }
+        return new DefaultGenerator().opts(input).generate();
+    }
+
+    private void writeInfo() throws IOException {
+        final File folder = infoFile.getAbsoluteFile().getParentFile();
+        if (folder != null) {
+            folder.mkdirs();
+        }
+        final Properties info = new Properties();
+        info.setProperty(PORT, String.valueOf(getPort()));
+        info.setProperty(TOKEN, token);
+        // only the current user may read the token, the file is created restricted so it is never readable by others
+        final Path path = infoFile.toPath();
+        Files.deleteIfExists(path);
+        if (FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+            Files.createFile(path, PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------")));
+        } else {
+            Files.createFile(path);
+            infoFile.setReadable(false, false);
+            infoFile.setWritable(false, false);
+            infoFile.setReadable(true, true);
+            infoFile.setWritable(true, true);
+        }
+        try (OutputStream out = Files.newOutputStream(path)) {
+            info.store(out, "swagger-codegen daemon");
+        }
+    }
+}
@@ -4,6 +4,7 @@ import io.swagger.codegen.*;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.regex.Pattern;
 
@@ -18,7 +19,6 @@ import io.swagger.v3.oas.models.media.Schema;
 import io.swagger.v3.oas.models.media.StringSchema;
 import io.swagger.v3.oas.models.security.SecurityScheme;
 import io.swagger.v3.core.util.Json;
-import org.apache.commons.io.FileUtils;
 
 import io.swagger.codegen.CliOption;
 import io.swagger.codegen.CodegenConstants;
@@ -460,7 +460,7 @@ public class HaskellHttpClientCodegen extends DefaultCodegen implements CodegenC
         //copy input swagger to output folder
         try {
             String swaggerJson = Json.pretty(openAPI);
-            FileUtils.writeStringToFile(new File(outputFolder + File.separator + "swagger.json"), swaggerJson);
+            getOutputSink().write(outputFolder + File.separator + "swagger.json", swaggerJson.getBytes(StandardCharsets.UTF_8));
         } catch (IOException e) {
             throw new RuntimeException(e.getMessage(), e.getCause());
         }
@@ -69,6 +69,7 @@ public class JavaClientCodegen extends AbstractJavaCodegen
         artifactId = "swagger-java-client";
         apiPackage = "io.swagger.client.api";
         modelPackage = "io.swagger.client.model";
+        supportsConcurrentConversion = true;
 
         cliOptions.add(CliOption.newBoolean(USE_RX_JAVA, "Whether to use the RxJava adapter with the retrofit2 library."));
         cliOptions.add(CliOption.newBoolean(USE_RX_JAVA2, "Whether to use the RxJava2 adapter with the retrofit2 library."));
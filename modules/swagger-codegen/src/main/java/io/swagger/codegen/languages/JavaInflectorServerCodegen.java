@@ -10,6 +10,7 @@ import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
 import io.swagger.v3.core.util.Yaml;
 import org.apache.commons.lang3.BooleanUtils;
+import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -75,6 +76,9 @@ public class JavaInflectorServerCodegen extends AbstractJavaCodegen {
 
     @Override
     public void processOpts() {
+        // the package defaults can also be set for a single generation, e.g. by the maven plugin
+        apiPackage = StringUtils.defaultIfEmpty(generationContext.getProperty("swagger.codegen.inflector.apipackage"), apiPackage);
+        modelPackage = StringUtils.defaultIfEmpty(generationContext.getProperty("swagger.codegen.inflector.modelpackage"), modelPackage);
         super.processOpts();
 
         writeOptional(outputFolder, new SupportingFile("pom.mustache", "", "pom.xml"));
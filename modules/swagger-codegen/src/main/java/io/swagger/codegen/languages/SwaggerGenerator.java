@@ -1,9 +1,9 @@
 package io.swagger.codegen.languages;
 
 import java.io.File;
+import java.nio.charset.StandardCharsets;
 
 import io.swagger.v3.oas.models.OpenAPI;
-import org.apache.commons.io.FileUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -46,7 +46,7 @@ public class SwaggerGenerator extends DefaultCodegen implements CodegenConfig {
 
         try {
             String outputFile = outputFolder + File.separator + "swagger.json";
-            FileUtils.writeStringToFile(new File(outputFile), swaggerString);
+            getOutputSink().write(outputFile, swaggerString.getBytes(StandardCharsets.UTF_8));
             LOGGER.debug("wrote file to " + outputFile);
         } catch (Exception e) {
             LOGGER.error(e.getMessage(), e);
@@ -7,11 +7,11 @@ import io.swagger.codegen.DefaultCodegen;
 import io.swagger.codegen.SupportingFile;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.core.util.Yaml;
-import org.apache.commons.io.FileUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
+import java.nio.charset.StandardCharsets;
 
 public class SwaggerYamlGenerator extends DefaultCodegen implements CodegenConfig {
     public static final String OUTPUT_NAME = "outputFile";
@@ -59,7 +59,7 @@ public class SwaggerYamlGenerator extends DefaultCodegen implements CodegenConfi
         try {
             String swaggerString = Yaml.mapper().writeValueAsString(openAPI);
             String outputFile = outputFolder + File.separator + this.outputFile;
-            FileUtils.writeStringToFile(new File(outputFile), swaggerString);
+            getOutputSink().write(outputFile, swaggerString.getBytes(StandardCharsets.UTF_8));
             LOGGER.debug("wrote file to " + outputFile);
         } catch (Exception e) {
             LOGGER.error(e.getMessage(), e);
@@ -9,6 +9,7 @@ import io.swagger.codegen.SupportingFile;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.core.util.Json;
 import org.apache.commons.lang3.BooleanUtils;
+import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -66,6 +67,9 @@ public class UndertowCodegen extends AbstractJavaCodegen {
 
     @Override
     public void processOpts() {
+        // the package defaults can also be set for a single generation, e.g. by the maven plugin
+        apiPackage = StringUtils.defaultIfEmpty(generationContext.getProperty("swagger.codegen.undertow.apipackage"), apiPackage);
+        modelPackage = StringUtils.defaultIfEmpty(generationContext.getProperty("swagger.codegen.undertow.modelpackage"), modelPackage);
         super.processOpts();
 
         apiTemplateFiles.remove("api.mustache");
@@ -4,6 +4,7 @@ import com.github.jknack.handlebars.Helper;
 import com.github.jknack.handlebars.Options;
 import com.github.jknack.handlebars.Options.Buffer;
 import io.swagger.codegen.VendorExtendable;
+import io.swagger.codegen.VendorExtensionMap;
 
 import java.io.IOException;
 import java.util.Map;
@@ -41,6 +42,9 @@ public abstract class ExtensionHelper implements Helper<VendorExtendable> {
             return false;
         }
         Map<String, Object> vendorExtensions = vendorExtendable.getVendorExtensions();
+        if (vendorExtensions instanceof VendorExtensionMap) {
+            return ((VendorExtensionMap) vendorExtensions).getBoolean(extensionKey);
+        }
         if (vendorExtensions.get(extensionKey) == null) {
             return false;
         }
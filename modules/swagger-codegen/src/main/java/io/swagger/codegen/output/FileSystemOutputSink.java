@@ -0,0 +1,203 @@
+package io.swagger.codegen.output;
+
+import io.swagger.codegen.AbstractGenerator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Writes the generated files to disk, creating missing folders.
+ * <p>
+ * Streamed files, and changed files when identical files are skipped, are written to a temporary file first and
+ * moved in place; the temporary file gets the permissions of the file it replaces, or the umask default for new
+ * files. When identical files are skipped, files whose content didn't change are left untouched, so they keep their
+ * timestamp and don't trigger recompilation.
+ */
+public class FileSystemOutputSink implements OutputSink {
+    private static final Logger LOGGER = LoggerFactory.getLogger(FileSystemOutputSink.class);
+    private static final int COMPARE_BUFFER_SIZE = 8192;
+
+    private final boolean skipIdenticalFiles;
+
+    public FileSystemOutputSink() {
+        this(false);
+    }
+
+    /**
+     * @param skipIdenticalFiles true to leave files with identical content untouched
+     */
+    public FileSystemOutputSink(boolean skipIdenticalFiles) {
+        this.skipIdenticalFiles = skipIdenticalFiles;
+    }
+
+    public boolean isSkipIdenticalFiles() {
+        return skipIdenticalFiles;
+    }
+
+    @Override
+    public boolean exists(String filename) {
+        return new File(filename).exists();
+    }
+
+    /**
+     * Streams the contents as UTF-8 to a temporary file which is moved in place, so a failing template leaves the
+     * previous file intact. When identical files are skipped, the file is only replaced if it differs.
+     */
+    @Override
+    public void write(String filename, AbstractGenerator.ContentWriter contents) throws IOException {
+        final File output = createParent(filename);
+        final Path target = output.toPath().toAbsolutePath();
+        final Path temp = createTempFile(target);
+        try {
+            try (Writer out = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                contents.writeTo(out);
+            }
+            if (skipIdenticalFiles && hasContents(output, temp.toFile())) {
+                LOGGER.debug("unchanged file " + filename);
+                return;
+            }
+            LOGGER.info("writing file " + filename);
+            move(temp, target);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @Override
+    public void write(String filename, byte[] contents) throws IOException {
+        final File output = createParent(filename);
+        if (!skipIdenticalFiles) {
+            LOGGER.info("writing file " + filename);
+            try (OutputStream out = new BufferedOutputStream(new FileOutputStream(output))) {
+                out.write(contents);
+            }
+            return;
+        }
+        if (hasContents(output, contents)) {
+            LOGGER.debug("unchanged file " + filename);
+            return;
+        }
+        LOGGER.info("writing file " + filename);
+        writeAtomically(output, contents);
+    }
+
+    private static File createParent(String filename) {
+        final File output = new File(filename);
+        if (output.getParent() != null && !new File(output.getParent()).exists()) {
+            File parent = new File(output.getParent());
+            parent.mkdirs();
+        }
+        return output;
+    }
+
+    private static boolean hasContents(File file, byte[] contents) throws IOException {
+        if (!file.isFile() || file.length() != contents.length) {
+            return false;
+        }
+        try (InputStream in = new FileInputStream(file)) {
+            final byte[] buffer = new byte[COMPARE_BUFFER_SIZE];
+            int offset = 0;
+            int read;
+            while ((read = in.read(buffer)) > 0) {
+                if (offset + read > contents.length) {
+                    return false;
+                }
+                for (int i = 0; i < read; i++) {
+                    if (buffer[i] != contents[offset + i]) {
+                        return false;
+                    }
+                }
+                offset += read;
+            }
+            return offset == contents.length;
+        }
+    }
+
+    private static boolean hasContents(File file, File contents) throws IOException {
+        if (!file.isFile() || file.length() != contents.length()) {
+            return false;
+        }
+        try (InputStream in = new FileInputStream(file); InputStream expected = new FileInputStream(contents)) {
+            final byte[] buffer = new byte[COMPARE_BUFFER_SIZE];
+            final byte[] expectedBuffer = new byte[COMPARE_BUFFER_SIZE];
+            int read;
+            while ((read = in.read(buffer)) > 0) {
+                int offset = 0;
+                while (offset < read) {
+                    final int expectedRead = expected.read(expectedBuffer, 0, read - offset);
+                    if (expectedRead < 0) {
+                        return false;
+                    }
+                    for (int i = 0; i < expectedRead; i++) {
+                        if (buffer[offset + i] != expectedBuffer[i]) {
+                            return false;
+                        }
+                    }
+                    offset += expectedRead;
+                }
+            }
+            return expected.read() < 0;
+        }
+    }
+
+    private static void writeAtomically(File output, byte[] contents) throws IOException {
+        final Path target = output.toPath().toAbsolutePath();
+        final Path temp = createTempFile(target);
+        try {
+            Files.write(temp, contents);
+            move(temp, target);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Creates an empty file next to the target. Unlike {@link Files#createTempFile}, which creates files only the
+     * owner can read, the file is created with the umask default and gets the permissions of an existing target.
+     */
+    private static Path createTempFile(Path target) throws IOException {
+        Path temp;
+        while (true) {
+            temp = target.resolveSibling("." + target.getFileName() + "." + Long.toUnsignedString(ThreadLocalRandom.current().nextLong()) + ".tmp");
+            try {
+                Files.createFile(temp);
+                break;
+            } catch (FileAlreadyExistsException e) {
+                // try another name
+            }
+        }
+        try {
+            if (Files.isRegularFile(target) && Files.getFileAttributeView(target, PosixFileAttributeView.class) != null) {
+                Files.setPosixFilePermissions(temp, Files.getPosixFilePermissions(target));
+            }
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        return temp;
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
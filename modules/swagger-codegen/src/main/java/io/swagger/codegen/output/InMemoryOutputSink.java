@@ -0,0 +1,62 @@
+package io.swagger.codegen.output;
+
+import io.swagger.codegen.AbstractGenerator;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Keeps the generated files in memory, by their path relative to the output folder. Nothing is written to disk.
+ */
+public class InMemoryOutputSink extends RelativeOutputSink {
+    private final SortedMap<String, byte[]> files = new ConcurrentSkipListMap<>();
+
+    /**
+     * @param outputFolder output folder of the codegen config, generated files are stored relative to it
+     */
+    public InMemoryOutputSink(String outputFolder) {
+        super(outputFolder);
+    }
+
+    @Override
+    public void write(String filename, byte[] contents) throws IOException {
+        files.put(getRelativePath(filename), contents);
+    }
+
+    @Override
+    public void write(String filename, AbstractGenerator.ContentWriter contents) throws IOException {
+        final String path = getRelativePath(filename);
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8)) {
+            contents.writeTo(writer);
+        }
+        files.put(path, out.toByteArray());
+    }
+
+    @Override
+    boolean contains(String relativePath) {
+        return files.containsKey(relativePath);
+    }
+
+    /**
+     * @param relativePath path relative to the output folder, with '/' separators
+     * @return contents of the file, or null if it wasn't generated
+     */
+    public byte[] get(String relativePath) {
+        return files.get(relativePath);
+    }
+
+    /**
+     * @return generated files by their path relative to the output folder, sorted by path
+     */
+    public Map<String, byte[]> getFiles() {
+        return Collections.unmodifiableSortedMap(files);
+    }
+}
@@ -0,0 +1,34 @@
+package io.swagger.codegen.output;
+
+import io.swagger.codegen.AbstractGenerator;
+
+import java.io.IOException;
+
+/**
+ * Destination of the generated files.
+ * <p>
+ * Files are identified by the path the generator would write them to, i.e. below the output folder of the
+ * codegen config. Sinks must accept writes from several render workers at the same time.
+ */
+public interface OutputSink {
+
+    /**
+     * @param filename path of a generated file
+     * @return true if the file exists in the output, e.g. from an earlier generation or written in this one
+     */
+    boolean exists(String filename);
+
+    /**
+     * @param filename path of the generated file
+     * @param contents file contents
+     * @throws IOException if the file can't be written
+     */
+    void write(String filename, byte[] contents) throws IOException;
+
+    /**
+     * @param filename path of the generated file
+     * @param contents writes the file contents, encoded as UTF-8
+     * @throws IOException if the file can't be written
+     */
+    void write(String filename, AbstractGenerator.ContentWriter contents) throws IOException;
+}
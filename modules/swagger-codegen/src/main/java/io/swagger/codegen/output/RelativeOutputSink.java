@@ -0,0 +1,41 @@
+package io.swagger.codegen.output;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Base of the sinks which don't write to disk and store the files by their path relative to the output folder.
+ */
+abstract class RelativeOutputSink implements OutputSink {
+    private final Path outputFolder;
+
+    RelativeOutputSink(String outputFolder) {
+        this.outputFolder = Paths.get(outputFolder).toAbsolutePath().normalize();
+    }
+
+    /**
+     * @param filename path of a generated file
+     * @return path of the file relative to the output folder, with '/' separators
+     * @throws IOException if the file isn't below the output folder
+     */
+    String getRelativePath(String filename) throws IOException {
+        final Path path = Paths.get(filename).toAbsolutePath().normalize();
+        if (!path.startsWith(outputFolder) || path.equals(outputFolder)) {
+            throw new IOException("File " + filename + " is not in the output folder " + outputFolder);
+        }
+        return outputFolder.relativize(path).toString().replace(File.separatorChar, '/');
+    }
+
+    @Override
+    public boolean exists(String filename) {
+        try {
+            return contains(getRelativePath(filename));
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    abstract boolean contains(String relativePath);
+}
@@ -0,0 +1,125 @@
+package io.swagger.codegen.output;
+
+import io.swagger.codegen.AbstractGenerator;
+import org.apache.commons.io.output.CloseShieldOutputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Compresses the generated files into a zip stream as they are written, by their path relative to the output
+ * folder. Nothing is written to disk.
+ * <p>
+ * Entries are written one at a time; render workers writing in parallel wait for each other. An entry can't be
+ * replaced once it is streamed, so when a file is written again, e.g. a supporting file overlapping a template
+ * output, the first contents are kept and the later write is skipped with a warning, see {@link #getSkipped()}.
+ */
+public class ZipOutputSink extends RelativeOutputSink implements Closeable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ZipOutputSink.class);
+
+    private final ZipOutputStream zip;
+    private final Set<String> entries = new HashSet<>();
+    private final Set<String> skipped = new LinkedHashSet<>();
+
+    /**
+     * @param out stream receiving the zip, closed with the sink
+     * @param outputFolder output folder of the codegen config, entries are named relative to it
+     */
+    public ZipOutputSink(OutputStream out, String outputFolder) {
+        super(outputFolder);
+        this.zip = new ZipOutputStream(out, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @param level compression level of the next entries, from 0 (stored without compression) to 9 (best compression)
+     * @see ZipOutputStream#setLevel(int)
+     */
+    public void setLevel(int level) {
+        synchronized (zip) {
+            zip.setLevel(level);
+        }
+    }
+
+    @Override
+    public void write(String filename, byte[] contents) throws IOException {
+        final String path = getRelativePath(filename);
+        synchronized (zip) {
+            if (!putNextEntry(path)) {
+                return;
+            }
+            zip.write(contents);
+            zip.closeEntry();
+        }
+    }
+
+    @Override
+    public void write(String filename, AbstractGenerator.ContentWriter contents) throws IOException {
+        final String path = getRelativePath(filename);
+        synchronized (zip) {
+            if (!putNextEntry(path)) {
+                return;
+            }
+            final Writer writer = new BufferedWriter(new OutputStreamWriter(new CloseShieldOutputStream(zip), StandardCharsets.UTF_8));
+            contents.writeTo(writer);
+            writer.flush();
+            zip.closeEntry();
+        }
+    }
+
+    private boolean putNextEntry(String path) throws IOException {
+        if (!entries.add(path)) {
+            LOGGER.warn("File " + path + " was already added to the zip, skipped writing it again");
+            skipped.add(path);
+            return false;
+        }
+        zip.putNextEntry(new ZipEntry(path));
+        return true;
+    }
+
+    /**
+     * @return relative paths of the files written more than once, whose later contents are missing from the zip
+     */
+    public Set<String> getSkipped() {
+        synchronized (zip) {
+            return Collections.unmodifiableSet(new LinkedHashSet<>(skipped));
+        }
+    }
+
+    @Override
+    boolean contains(String relativePath) {
+        synchronized (zip) {
+            return entries.contains(relativePath);
+        }
+    }
+
+    /**
+     * Writes the end of the zip without closing the underlying stream.
+     *
+     * @throws IOException if the zip can't be written
+     */
+    public void finish() throws IOException {
+        synchronized (zip) {
+            zip.finish();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (zip) {
+            zip.close();
+        }
+    }
+}
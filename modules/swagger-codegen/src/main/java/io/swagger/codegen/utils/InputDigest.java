@@ -0,0 +1,220 @@
+package io.swagger.codegen.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.core.util.Yaml;
+import org.apache.commons.io.FileUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.security.CodeSource;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Digest of the inputs of a generation: the spec with the files of its external references, the templates and the
+ * options. Build tools compare it with the digest of the previous generation to skip generations whose inputs did
+ * not change.
+ * <p>
+ * Inputs that can't be read locally, e.g. a spec or a reference fetched from a url, make the digest incomplete;
+ * an incomplete digest never matches, so such generations always run.
+ */
+public class InputDigest {
+    private final Hasher hasher = Hashing.sha256().newHasher();
+    private final Set<File> files = new LinkedHashSet<>();
+    private boolean complete = true;
+    private String hash;
+
+    /**
+     * @param name name of the option
+     * @param value option value, written as JSON with sorted map entries
+     * @return this digest
+     */
+    public InputDigest put(String name, Object value) {
+        put(name);
+        try {
+            put(Json.mapper().writer().with(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS).writeValueAsString(value));
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Could not write option '" + name + "'", e);
+        }
+        return this;
+    }
+
+    /**
+     * Adds the spec and, recursively, the local files of its external references.
+     *
+     * @param location spec location, as file or url
+     * @return this digest
+     */
+    public InputDigest putSpec(String location) {
+        final File spec = location != null && !isRemote(location) ? new File(location) : null;
+        if (spec == null || !spec.isFile()) {
+            complete = false;
+            return this;
+        }
+        final List<File> pending = new ArrayList<>();
+        pending.add(spec);
+        while (!pending.isEmpty()) {
+            final File file = pending.remove(0).getAbsoluteFile().toPath().normalize().toFile();
+            if (files.contains(file)) {
+                continue;
+            }
+            final String content = putFile(file);
+            if (content == null) {
+                continue;
+            }
+            for (String ref : readExternalRefs(content)) {
+                if (isRemote(ref)) {
+                    complete = false;
+                } else {
+                    pending.add(new File(file.getParentFile(), ref));
+                }
+            }
+        }
+        return this;
+    }
+
+    /**
+     * @param file input file, e.g. a configuration file; missing files are digested as missing
+     * @return this digest
+     */
+    public InputDigest putInput(File file) {
+        if (file != null) {
+            putFile(file.getAbsoluteFile());
+        }
+        return this;
+    }
+
+    /**
+     * @param directory folder of inputs, e.g. a template folder, digested with all its files
+     * @return this digest
+     */
+    public InputDigest putDirectory(File directory) {
+        if (directory == null) {
+            return this;
+        }
+        put(directory.getAbsolutePath());
+        if (!directory.isDirectory()) {
+            return this;
+        }
+        final List<File> contents = new ArrayList<>(FileUtils.listFiles(directory, null, true));
+        Collections.sort(contents);
+        for (File file : contents) {
+            putFile(file.getAbsoluteFile());
+        }
+        return this;
+    }
+
+    /**
+     * Adds the jar, or the folder of classes, a class is loaded from, e.g. the generator of the selected language: a
+     * new version of the generator, or of a custom generator with its templates, then changes the digest.
+     *
+     * @param type class whose origin is digested
+     * @return this digest
+     */
+    public InputDigest putClassSource(Class<?> type) {
+        final CodeSource source = type.getProtectionDomain().getCodeSource();
+        if (source == null || source.getLocation() == null || !"file".equals(source.getLocation().getProtocol())) {
+            complete = false;
+            return this;
+        }
+        final File location;
+        try {
+            location = new File(source.getLocation().toURI());
+        } catch (URISyntaxException | IllegalArgumentException e) {
+            complete = false;
+            return this;
+        }
+        return location.isDirectory() ? putDirectory(location) : putInput(location);
+    }
+
+    /**
+     * @return false if some inputs could not be read locally, in which case the digest must not be trusted
+     */
+    public boolean isComplete() {
+        return complete;
+    }
+
+    /**
+     * @return the files read for the digest
+     */
+    public Collection<File> getFiles() {
+        return Collections.unmodifiableSet(files);
+    }
+
+    /**
+     * @return hex encoded digest of all inputs added so far; no input may be added afterwards
+     */
+    public String hash() {
+        if (hash == null) {
+            hash = hasher.hash().toString();
+        }
+        return hash;
+    }
+
+    private String putFile(File file) {
+        files.add(file);
+        put(file.getPath());
+        if (!file.isFile()) {
+            put("<missing>");
+            return null;
+        }
+        try {
+            final byte[] content = FileUtils.readFileToByteArray(file);
+            hasher.putInt(content.length);
+            hasher.putBytes(content);
+            return new String(content, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            complete = false;
+            return null;
+        }
+    }
+
+    private void put(String value) {
+        hasher.putInt(value.length());
+        hasher.putString(value, StandardCharsets.UTF_8);
+    }
+
+    private static Set<String> readExternalRefs(String content) {
+        final Set<String> refs = new LinkedHashSet<>();
+        try {
+            // yaml is a superset of json
+            collectExternalRefs(Yaml.mapper().readTree(content), refs);
+        } catch (IOException e) {
+            // not a spec, e.g. a referenced text file: its content is digested as is
+        }
+        return refs;
+    }
+
+    private static void collectExternalRefs(JsonNode node, Set<String> refs) {
+        if (node == null) {
+            return;
+        }
+        if (node.isObject()) {
+            final JsonNode ref = node.get("$ref");
+            if (ref != null && ref.isTextual() && !ref.asText().startsWith("#")) {
+                final String value = ref.asText();
+                final int fragment = value.indexOf('#');
+                refs.add(fragment < 0 ? value : value.substring(0, fragment));
+            }
+        }
+        if (node.isContainerNode()) {
+            for (JsonNode child : node) {
+                collectExternalRefs(child, refs);
+            }
+        }
+    }
+
+    private static boolean isRemote(String location) {
+        return location.contains("://");
+    }
+}
@@ -0,0 +1,48 @@
+package io.swagger.codegen.utils;
+
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.parser.util.OpenAPIDeserializer;
+
+import java.io.IOException;
+
+/**
+ * Serialized form of a parsed spec, from which any number of independent copies can be read. Codegens modify the
+ * spec they generate from, so each generation needs its own copy.
+ * <p>
+ * Copies are read with the parser's deserializer, so schemas get the same types (<code>StringSchema</code>,
+ * <code>ArraySchema</code>...) as in the parsed spec. References were resolved when the spec was parsed and are not
+ * fetched again.
+ */
+public class OpenAPISnapshot {
+    private final byte[] json;
+
+    /**
+     * @param openAPI parsed spec, may be modified once the snapshot is taken
+     */
+    public OpenAPISnapshot(OpenAPI openAPI) {
+        try {
+            this.json = Json.mapper().writeValueAsBytes(openAPI);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Could not serialize spec", e);
+        }
+    }
+
+    /**
+     * @return new copy of the spec
+     */
+    public OpenAPI copy() {
+        try {
+            return new OpenAPIDeserializer().deserialize(Json.mapper().readTree(json)).getOpenAPI();
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not read spec snapshot", e);
+        }
+    }
+
+    /**
+     * @return size of the serialized spec in bytes
+     */
+    public int getSize() {
+        return json.length;
+    }
+}
@@ -0,0 +1,76 @@
+package io.swagger.codegen;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.rules.TemporaryFolder;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+public class AbstractGeneratorTest {
+
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        folder.create();
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+        folder.delete();
+    }
+
+    @Test(description = "identical files are not rewritten")
+    public void testSkipIdenticalFiles() throws Exception {
+        final DefaultGenerator generator = new DefaultGenerator();
+        generator.setSkipIdenticalFiles(true);
+        final File file = new File(folder.getRoot(), "src/Pet.java");
+
+        generator.writeToFile(file.getPath(), "class Pet {}");
+        assertEquals(FileUtils.readFileToString(file, StandardCharsets.UTF_8), "class Pet {}");
+        assertTrue(file.setLastModified(1000L));
+
+        generator.writeToFile(file.getPath(), "class Pet {}");
+        assertEquals(file.lastModified(), 1000L);
+
+        generator.writeToFile(file.getPath(), "class Pet { }");
+        assertEquals(FileUtils.readFileToString(file, StandardCharsets.UTF_8), "class Pet { }");
+        // no temporary files left behind
+        assertEquals(file.getParentFile().list().length, 1);
+    }
+
+    @Test(description = "streamed contents are compared before replacing the file")
+    public void testStreamedContents() throws Exception {
+        final DefaultGenerator generator = new DefaultGenerator();
+        generator.setSkipIdenticalFiles(true);
+        final File file = new File(folder.getRoot(), "Pet.java");
+
+        generator.writeToFile(file.getPath(), writer -> writer.write("class Pet {}"));
+        assertEquals(FileUtils.readFileToString(file, StandardCharsets.UTF_8), "class Pet {}");
+        assertTrue(file.setLastModified(1000L));
+
+        generator.writeToFile(file.getPath(), writer -> writer.write("class Pet {}"));
+        assertEquals(file.lastModified(), 1000L);
+
+        generator.writeToFile(file.getPath(), writer -> writer.write("class Pet {}\n"));
+        assertEquals(FileUtils.readFileToString(file, StandardCharsets.UTF_8), "class Pet {}\n");
+        assertEquals(folder.getRoot().list().length, 1);
+    }
+
+    @Test(description = "files are rewritten by default")
+    public void testRewriteByDefault() throws Exception {
+        final DefaultGenerator generator = new DefaultGenerator();
+        final File file = new File(folder.getRoot(), "Pet.java");
+
+        generator.writeToFile(file.getPath(), "class Pet {}");
+        assertTrue(file.setLastModified(1000L));
+        generator.writeToFile(file.getPath(), "class Pet {}");
+        assertTrue(file.lastModified() != 1000L);
+    }
+}
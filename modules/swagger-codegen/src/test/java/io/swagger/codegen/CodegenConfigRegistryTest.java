@@ -0,0 +1,53 @@
+package io.swagger.codegen;
+
+import io.swagger.codegen.languages.JavaClientCodegen;
+import org.junit.rules.TemporaryFolder;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.Writer;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+public class CodegenConfigRegistryTest {
+
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        folder.create();
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+        folder.delete();
+    }
+
+    @Test(description = "configs are read from the index")
+    public void testIndex() throws Exception {
+        final File index = new File(folder.getRoot(), CodegenConfigRegistry.INDEX_RESOURCE);
+        index.getParentFile().mkdirs();
+        try (Writer writer = Files.newBufferedWriter(index.toPath(), StandardCharsets.UTF_8)) {
+            CodegenConfigRegistry.writeIndex(Collections.singletonList(
+                    new CodegenConfigRegistry.Entry("indexed-java", JavaClientCodegen.class.getName(), CodegenType.CLIENT)), writer);
+        }
+
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{folder.getRoot().toURI().toURL()}, getClass().getClassLoader())) {
+            final CodegenConfigRegistry registry = new CodegenConfigRegistry(classLoader);
+
+            assertTrue(registry.getNames().contains("indexed-java"));
+            assertEquals(registry.get("indexed-java").getType(), CodegenType.CLIENT);
+            assertEquals(registry.newInstance("indexed-java").getClass(), JavaClientCodegen.class);
+            assertNull(registry.newInstance("unknown"));
+        }
+    }
+}
@@ -1,8 +1,12 @@
 package io.swagger.codegen;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import io.swagger.v3.core.util.Json;
 import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
 import io.swagger.v3.oas.models.media.StringSchema;
 import io.swagger.v3.oas.models.parameters.Parameter;
 import io.swagger.v3.parser.core.models.ParseOptions;
@@ -10,6 +14,7 @@ import io.swagger.v3.parser.OpenAPIV3Parser;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.io.File;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -60,6 +65,24 @@ public class CodegenTest {
         Assert.assertEquals(codegen.camelize("foo-bar-xyzzy"), "FooBarXyzzy");
     }
 
+    @Test(description = "names are transformed like the former regular expressions did")
+    public void goldenNamesTest() throws Exception {
+        final DefaultCodegen codegen = new DefaultCodegen();
+        final JsonNode names = Json.mapper().readTree(new File("src/test/resources/golden-names.json"));
+
+        for (JsonNode expected : names) {
+            final String name = expected.get("name").asText();
+            // twice, the second time from the caches
+            for (int i = 0; i < 2; i++) {
+                Assert.assertEquals(DefaultCodegen.camelize(name), expected.get("camelize").asText(), name);
+                Assert.assertEquals(DefaultCodegen.camelize(name, true), expected.get("camelizeLowercaseFirstLetter").asText(), name);
+                Assert.assertEquals(DefaultCodegen.underscore(name), expected.get("underscore").asText(), name);
+            }
+            Assert.assertEquals(codegen.sanitizeName(name), expected.get("sanitizeName").asText(), name);
+            Assert.assertEquals(codegen.removeNonNameElementToCamelCase(name), expected.get("removeNonNameElementToCamelCase").asText(), name);
+        }
+    }
+
 
     @Test(description = "read a file upload param from a 2.0 spec")
     // TODO: add more assertions.
@@ -451,6 +474,24 @@ public class CodegenTest {
         Assert.assertEquals(parameter.getName(), "test");
     }
 
+    @Test(description = "modelJson and jsonSchema are rendered on first access")
+    public void lazyJsonSchemaTest() {
+        final Schema schema = new ObjectSchema()
+                .addProperties("name", new StringSchema().description("the name"));
+        final CodegenModel model = new DefaultCodegen().fromModel("Sample", schema);
+
+        Assert.assertNull(model.modelJson);
+        Assert.assertEquals(model.getModelJson(), Json.pretty(schema));
+        Assert.assertEquals(model.modelJson, Json.pretty(schema));
+
+        final CodegenProperty property = model.vars.get(0);
+        Assert.assertNull(property.jsonSchema);
+        Assert.assertEquals(property.getJsonSchema(), Json.pretty(schema.getProperties().get("name")));
+
+        property.setJsonSchema("{}");
+        Assert.assertEquals(property.getJsonSchema(), "{}");
+    }
+
     private static OpenAPI parseOpenAPI(String path) {
         final ParseOptions options = new ParseOptions();
         options.setFlatten(Boolean.TRUE);
@@ -0,0 +1,89 @@
+package io.swagger.codegen;
+
+import com.github.jknack.handlebars.Template;
+import org.apache.commons.io.FileUtils;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+
+public class CompiledTemplateCacheTest {
+
+    private static final String TEMPLATE_DIR = "2_0/templates/Java";
+
+    @Test
+    public void testCompiledTemplateIsReused() throws Exception {
+        final CompiledTemplateCache cache = new CompiledTemplateCache(10);
+        final DefaultCodegen config = new DefaultCodegen();
+        config.setTemplateDir(TEMPLATE_DIR);
+
+        final Template first = cache.get(config, "model");
+        final Template second = cache.get(config, "model");
+
+        assertSame(first, second);
+        assertEquals(cache.size(), 1);
+        assertEquals(cache.stats().hitCount(), 1);
+    }
+
+    @Test
+    public void testLibraryIsPartOfKey() throws Exception {
+        final CompiledTemplateCache cache = new CompiledTemplateCache(10);
+        final DefaultCodegen config = new DefaultCodegen();
+        config.setTemplateDir(TEMPLATE_DIR);
+
+        final Template withoutLibrary = cache.get(config, "model");
+        config.supportedLibraries().put("jersey2", "jersey2");
+        config.setLibrary("jersey2");
+        final Template withLibrary = cache.get(config, "model");
+
+        assertNotSame(withoutLibrary, withLibrary);
+        assertEquals(cache.size(), 2);
+    }
+
+    @Test
+    public void testCacheIsBounded() throws Exception {
+        final CompiledTemplateCache cache = new CompiledTemplateCache(1);
+        final DefaultCodegen config = new DefaultCodegen();
+        config.setTemplateDir(TEMPLATE_DIR);
+
+        cache.get(config, "model");
+        cache.get(config, "ApiClient");
+
+        assertEquals(cache.size(), 1);
+        cache.invalidateAll();
+        assertEquals(cache.size(), 0);
+    }
+
+    @Test
+    public void testEditedTemplateIsRecompiled() throws Exception {
+        // templates are loaded from the class path, the test classes dir stands in for a user template dir
+        final File classes = new File(getClass().getResource("/").toURI());
+        final File templateDir = new File(classes, "compiled-template-cache-test");
+        final File template = new File(templateDir, "greeting.mustache");
+        try {
+            FileUtils.writeStringToFile(template, "Hello {{name}}", StandardCharsets.UTF_8.name());
+            final CompiledTemplateCache cache = new CompiledTemplateCache(10);
+            final DefaultCodegen config = new DefaultCodegen();
+            config.setTemplateDir(templateDir.getName());
+
+            final Template first = cache.get(config, "greeting");
+            assertSame(cache.get(config, "greeting"), first);
+            assertEquals(first.apply(Collections.singletonMap("name", "pet")), "Hello pet");
+
+            FileUtils.writeStringToFile(template, "Bye {{name}}", StandardCharsets.UTF_8.name());
+            template.setLastModified(template.lastModified() + 2000);
+            final Template edited = cache.get(config, "greeting");
+
+            assertNotSame(edited, first);
+            assertEquals(edited.apply(Collections.singletonMap("name", "pet")), "Bye pet");
+            assertEquals(cache.size(), 1);
+        } finally {
+            FileUtils.deleteDirectory(templateDir);
+        }
+    }
+}
@@ -367,6 +367,79 @@ public class DefaultGeneratorTest {
         }
     }
 
+    @Test(description = "operations with several tags are converted once, each tag gets a copy of its own")
+    public void testOperationCopiesPerTag() {
+        String spec =
+                "openapi: '3.0.0'\n" +
+                "info:\n" +
+                "  version: 1.0.0\n" +
+                "  title: Swagger Petstore\n" +
+                "paths:\n" +
+                "  /pet/{id}:\n" +
+                "    put:\n" +
+                "      operationId: updatePet\n" +
+                "      tags:\n" +
+                "        - pet\n" +
+                "        - store\n" +
+                "      parameters:\n" +
+                "        - name: id\n" +
+                "          in: path\n" +
+                "          required: true\n" +
+                "          schema:\n" +
+                "            type: integer\n" +
+                "      requestBody:\n" +
+                "        content:\n" +
+                "          application/json:\n" +
+                "            schema:\n" +
+                "              $ref: '#/components/schemas/Pet'\n" +
+                "      responses:\n" +
+                "        '200':\n" +
+                "          description: OK\n" +
+                "          headers:\n" +
+                "            X-Rate-Limit:\n" +
+                "              schema:\n" +
+                "                type: integer\n" +
+                "components:\n" +
+                "  schemas:\n" +
+                "    Pet:\n" +
+                "      type: object\n" +
+                "      properties:\n" +
+                "        name:\n" +
+                "          type: string\n";
+
+        final OpenAPI openAPI = new OpenAPIV3Parser().readContents(spec, null, null).getOpenAPI();
+        CodegenConfig codegenConfig = new JavaClientCodegen();
+        codegenConfig.setOutputDir(folder.getRoot().getAbsolutePath());
+
+        DefaultGenerator generator = new DefaultGenerator();
+        generator.opts(new ClientOptInput().opts(new ClientOpts()).openAPI(openAPI).config(codegenConfig));
+
+        Map<String, List<CodegenOperation>> paths = generator.processPaths(openAPI.getPaths());
+        CodegenOperation pet = paths.get("Pet").get(0);
+        CodegenOperation store = paths.get("Store").get(0);
+
+        assertNotSame(pet, store);
+        assertEquals(pet.baseName, "Pet");
+        assertEquals(store.baseName, "Store");
+        assertEquals(store.allParams, pet.allParams);
+        assertNotSame(pet.vendorExtensions, store.vendorExtensions);
+        assertEquals(pet.allParams.size(), 2);
+        for (int i = 0; i < pet.allParams.size(); i++) {
+            assertNotSame(pet.allParams.get(i), store.allParams.get(i));
+        }
+        assertNotSame(pet.pathParams.get(0), store.pathParams.get(0));
+        // the body parameter stays one parameter within each operation
+        assertSame(store.bodyParam, store.bodyParams.get(0));
+        assertTrue(store.allParams.stream().anyMatch(param -> param == store.bodyParam));
+        assertNotSame(pet.bodyParam, store.bodyParam);
+
+        assertEquals(store.responses, pet.responses);
+        assertNotSame(pet.responses.get(0), store.responses.get(0));
+        assertNotSame(pet.responses.get(0).headers.get(0), store.responses.get(0).headers.get(0));
+        assertEquals(store.responseHeaders, pet.responseHeaders);
+        assertNotSame(pet.responseHeaders.get(0), store.responseHeaders.get(0));
+    }
+
     @Test
     public void testResolveTagsNoTagsDefined() {
         final File output = folder.getRoot();
@@ -0,0 +1,63 @@
+package io.swagger.codegen;
+
+import org.testng.annotations.Test;
+
+import java.util.Collections;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+public class GenerationContextTest {
+
+    @Test(description = "context properties take precedence over system properties")
+    public void testSystemPropertyFallback() {
+        final String key = "swagger.codegen.test.generationContext";
+        final GenerationContext context = new GenerationContext(Collections.singletonMap(CodegenConstants.MODELS, "Pet"));
+        try {
+            assertNull(context.getProperty(key));
+            System.setProperty(key, "system");
+            assertEquals(context.getProperty(key), "system");
+
+            context.setProperty(key, "context");
+            assertEquals(context.getProperty(key), "context");
+            assertEquals(System.getProperty(key), "system");
+        } finally {
+            System.clearProperty(key);
+        }
+        assertEquals(context.getProperty(CodegenConstants.MODELS), "Pet");
+        assertFalse(new GenerationContext().isSet(CodegenConstants.MODELS));
+    }
+
+    @Test(description = "cleared context properties hide system properties")
+    public void testClearProperty() {
+        final String key = "swagger.codegen.test.generationContext";
+        final GenerationContext context = new GenerationContext();
+        try {
+            System.setProperty(key, "system");
+            context.clearProperty(key);
+            assertFalse(context.isSet(key));
+            assertEquals(System.getProperty(key), "system");
+            assertTrue(context.getProperties().containsKey(key));
+        } finally {
+            System.clearProperty(key);
+        }
+    }
+
+    @Test(description = "the generator passes the context of the input to the config")
+    public void testGeneratorContext() {
+        final GenerationContext context = new GenerationContext().property("debugParser", "");
+        final DefaultCodegen config = new DefaultCodegen();
+        final ClientOptInput input = new ClientOptInput()
+                .config(config)
+                .opts(new ClientOpts())
+                .generationContext(context);
+
+        new DefaultGenerator().opts(input);
+
+        assertSame(config.getGenerationContext(), context);
+        assertTrue(config.getGenerationContext().isSet("debugParser"));
+    }
+}
@@ -0,0 +1,113 @@
+package io.swagger.codegen;
+
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.parser.OpenAPIV3Parser;
+import org.apache.commons.io.FileUtils;
+import org.junit.rules.TemporaryFolder;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+public class GenerationFingerprintsTest {
+
+    private static final String PETSTORE = "src/test/resources/3_0_0/petstore.json";
+
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        folder.create();
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+        folder.delete();
+    }
+
+    @Test(description = "fingerprints are stable and only change with the contributing schemas")
+    public void testModelFingerprints() {
+        final OpenAPI openAPI = new OpenAPIV3Parser().read(PETSTORE);
+        final GenerationFingerprints before = new GenerationFingerprints(new DefaultCodegen(), openAPI);
+
+        assertEquals(new GenerationFingerprints(new DefaultCodegen(), openAPI).model("Pet"), before.model("Pet"));
+        assertNull(before.model("Missing"));
+
+        final Schema category = openAPI.getComponents().getSchemas().get("Category");
+        category.setDescription("changed");
+        final GenerationFingerprints after = new GenerationFingerprints(new DefaultCodegen(), openAPI);
+
+        assertNotEquals(after.model("Category"), before.model("Category"));
+        // Pet references Category
+        assertNotEquals(after.model("Pet"), before.model("Pet"));
+        assertEquals(after.model("User"), before.model("User"));
+    }
+
+    @Test(description = "options are part of the fingerprints")
+    public void testOptionsFingerprint() {
+        final OpenAPI openAPI = new OpenAPIV3Parser().read(PETSTORE);
+        final DefaultCodegen config = new DefaultCodegen();
+        final String before = new GenerationFingerprints(config, openAPI).model("User");
+
+        config.additionalProperties().put("generatedDate", "now");
+        assertEquals(new GenerationFingerprints(config, openAPI).model("User"), before);
+
+        config.additionalProperties().put(CodegenConstants.MODEL_PACKAGE, "io.swagger.test");
+        assertNotEquals(new GenerationFingerprints(config, openAPI).model("User"), before);
+    }
+
+    @Test(description = "partials are part of the file fingerprints")
+    public void testPartialsFingerprint() throws Exception {
+        final OpenAPI openAPI = new OpenAPIV3Parser().read(PETSTORE);
+        // templates are loaded from the class path, the test classes dir stands in for a user template dir
+        final File templateDir = new File(new File(getClass().getResource("/").toURI()), "fingerprints-test");
+        try {
+            FileUtils.writeStringToFile(new File(templateDir, "model.mustache"), "{{#models}}{{>pojo}}{{/models}}", StandardCharsets.UTF_8.name());
+            FileUtils.writeStringToFile(new File(templateDir, "pojo.mustache"), "class {{classname}} {{> license}}", StandardCharsets.UTF_8.name());
+            FileUtils.writeStringToFile(new File(templateDir, "license.mustache"), "// MIT", StandardCharsets.UTF_8.name());
+            final DefaultCodegen config = new DefaultCodegen();
+            config.setTemplateDir(templateDir.getName());
+            final CompiledTemplateCache cache = new CompiledTemplateCache(10);
+            final String before = new GenerationFingerprints(config, openAPI).file("inputs", "model", cache.get(config, "model"));
+
+            assertEquals(new GenerationFingerprints(config, openAPI).file("inputs", "model", cache.get(config, "model")), before);
+
+            FileUtils.writeStringToFile(new File(templateDir, "license.mustache"), "// Apache 2.0", StandardCharsets.UTF_8.name());
+            assertNotEquals(new GenerationFingerprints(config, openAPI).file("inputs", "model", cache.get(config, "model")), before);
+        } finally {
+            FileUtils.deleteDirectory(templateDir);
+        }
+    }
+
+    @Test(description = "manifest entries are kept across runs")
+    public void testManifest() throws Exception {
+        final File output = folder.getRoot();
+        final File generated = new File(output, "src/Pet.java");
+        generated.getParentFile().mkdirs();
+        assertTrue(generated.createNewFile());
+
+        GenerationManifest manifest = GenerationManifest.load(output.getAbsolutePath());
+        assertFalse(manifest.isUpToDate(generated.getPath(), "abc"));
+        manifest.record(generated.getPath(), "abc");
+        manifest.save();
+
+        manifest = GenerationManifest.load(output.getAbsolutePath());
+        assertTrue(manifest.isUpToDate(generated.getPath(), "abc"));
+        assertFalse(manifest.isUpToDate(generated.getPath(), "def"));
+
+        assertTrue(generated.delete());
+        assertFalse(manifest.isUpToDate(generated.getPath(), "abc"));
+
+        GenerationManifest.delete(output.getAbsolutePath());
+        assertFalse(new File(output, ".swagger-codegen/MANIFEST").exists());
+    }
+}
@@ -0,0 +1,50 @@
+package io.swagger.codegen;
+
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class NameCacheTest {
+
+    @Test(description = "names are only memoized when enabled")
+    public void testOptIn() {
+        final CountingCodegen codegen = new CountingCodegen();
+        codegen.processOpts();
+        assertFalse(codegen.getNameCache().isEnabled());
+        assertEquals(codegen.getNameCache().toModelName("pet"), "Pet");
+        assertEquals(codegen.getNameCache().toModelName("pet"), "Pet");
+        assertEquals(codegen.modelNames, 2);
+
+        codegen.additionalProperties().put(CodegenConstants.MEMOIZE_NAMES, "true");
+        codegen.processOpts();
+        assertTrue(codegen.getNameCache().isEnabled());
+        assertEquals(codegen.getNameCache().toModelName("pet"), "Pet");
+        assertEquals(codegen.getNameCache().toModelName("pet"), "Pet");
+        assertEquals(codegen.modelNames, 3);
+    }
+
+    @Test(description = "processing the options again clears the memoized names")
+    public void testInvalidation() {
+        final CountingCodegen codegen = new CountingCodegen();
+        codegen.additionalProperties().put(CodegenConstants.MEMOIZE_NAMES, true);
+        codegen.processOpts();
+        assertEquals(codegen.getNameCache().toModelName("pet"), "Pet");
+
+        codegen.additionalProperties().put(CodegenConstants.MODEL_NAME_SUFFIX, "Dto");
+        codegen.processOpts();
+        assertEquals(codegen.getNameCache().toModelName("pet"), "PetDto");
+        assertEquals(codegen.modelNames, 2);
+    }
+
+    private static class CountingCodegen extends DefaultCodegen {
+        private int modelNames;
+
+        @Override
+        public String toModelName(String name) {
+            modelNames++;
+            return super.toModelName(name);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package io.swagger.codegen;
+
+import io.swagger.codegen.languages.helpers.ExtensionHelper;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+public class VendorExtensionMapTest {
+
+    @Test(description = "flags and custom extensions share the map view")
+    public void mapViewTest() {
+        final VendorExtensionMap extensions = new VendorExtensionMap();
+        extensions.put(CodegenConstants.IS_ENUM_EXT_NAME, Boolean.TRUE);
+        extensions.put(CodegenConstants.HAS_MORE_EXT_NAME, Boolean.FALSE);
+        extensions.put("x-custom", "value");
+
+        final Map<String, Object> expected = new HashMap<>();
+        expected.put(CodegenConstants.IS_ENUM_EXT_NAME, Boolean.TRUE);
+        expected.put(CodegenConstants.HAS_MORE_EXT_NAME, Boolean.FALSE);
+        expected.put("x-custom", "value");
+
+        Assert.assertEquals(extensions.size(), 3);
+        Assert.assertEquals(extensions, expected);
+        Assert.assertEquals(expected, extensions);
+        Assert.assertEquals(extensions.hashCode(), expected.hashCode());
+        Assert.assertEquals(new VendorExtensionMap(expected), extensions);
+    }
+
+    @Test(description = "flags can be overwritten with non boolean values and removed")
+    public void overwriteAndRemoveTest() {
+        final VendorExtensionMap extensions = new VendorExtensionMap();
+        Assert.assertNull(extensions.put(CodegenConstants.IS_ENUM_EXT_NAME, Boolean.TRUE));
+        Assert.assertEquals(extensions.put(CodegenConstants.IS_ENUM_EXT_NAME, "false"), Boolean.TRUE);
+        Assert.assertEquals(extensions.get(CodegenConstants.IS_ENUM_EXT_NAME), "false");
+        Assert.assertFalse(extensions.getBoolean(CodegenConstants.IS_ENUM_EXT_NAME));
+        Assert.assertEquals(extensions.size(), 1);
+
+        Assert.assertEquals(extensions.put(CodegenConstants.IS_ENUM_EXT_NAME, Boolean.TRUE), "false");
+        Assert.assertEquals(extensions.size(), 1);
+        Assert.assertEquals(extensions.remove(CodegenConstants.IS_ENUM_EXT_NAME), Boolean.TRUE);
+        Assert.assertFalse(extensions.containsKey(CodegenConstants.IS_ENUM_EXT_NAME));
+        Assert.assertTrue(extensions.isEmpty());
+    }
+
+    @Test(description = "entries can be removed while iterating")
+    public void iteratorRemoveTest() {
+        final VendorExtensionMap extensions = new VendorExtensionMap();
+        extensions.put(CodegenConstants.IS_ENUM_EXT_NAME, Boolean.TRUE);
+        extensions.put(CodegenConstants.IS_CONTAINER_EXT_NAME, Boolean.TRUE);
+        extensions.put("x-custom", Boolean.TRUE);
+
+        final Iterator<Map.Entry<String, Object>> iterator = extensions.entrySet().iterator();
+        while (iterator.hasNext()) {
+            if (!CodegenConstants.IS_CONTAINER_EXT_NAME.equals(iterator.next().getKey())) {
+                iterator.remove();
+            }
+        }
+        Assert.assertEquals(extensions.size(), 1);
+        Assert.assertTrue(extensions.getBoolean(CodegenConstants.IS_CONTAINER_EXT_NAME));
+    }
+
+    @Test(description = "extension helper reads flags from the typed store")
+    public void extensionHelperTest() {
+        final CodegenProperty property = new CodegenProperty();
+        property.getVendorExtensions().put(CodegenConstants.IS_CONTAINER_EXT_NAME, Boolean.TRUE);
+        property.getVendorExtensions().put("x-is-custom", "true");
+
+        Assert.assertTrue(ExtensionHelper.getBooleanValue(property, CodegenConstants.IS_CONTAINER_EXT_NAME));
+        Assert.assertTrue(ExtensionHelper.getBooleanValue(property, "x-is-custom"));
+        Assert.assertFalse(ExtensionHelper.getBooleanValue(property, CodegenConstants.IS_ENUM_EXT_NAME));
+    }
+}
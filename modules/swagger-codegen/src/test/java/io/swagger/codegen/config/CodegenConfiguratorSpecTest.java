@@ -0,0 +1,29 @@
+package io.swagger.codegen.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.swagger.codegen.ClientOptInput;
+import io.swagger.codegen.DefaultCodegen;
+import io.swagger.v3.core.util.Json;
+import org.apache.commons.io.FileUtils;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+
+import static org.testng.Assert.assertEquals;
+
+public class CodegenConfiguratorSpecTest {
+
+    @Test(description = "specs read into a tree are deserialized like spec contents")
+    public void testTreeSpec() throws Exception {
+        final String content = FileUtils.readFileToString(new File("src/test/resources/3_0_0/petstore.json"), StandardCharsets.UTF_8);
+        final JsonNode tree = Json.mapper().readTree(content);
+        final CodegenConfigurator configurator = new CodegenConfigurator()
+                .setLang(DefaultCodegen.class.getName());
+
+        final ClientOptInput fromContent = configurator.toClientOptInput(content);
+        final ClientOptInput fromTree = configurator.toClientOptInput(tree);
+
+        assertEquals(Json.pretty(fromTree.getOpenAPI()), Json.pretty(fromContent.getOpenAPI()));
+    }
+}
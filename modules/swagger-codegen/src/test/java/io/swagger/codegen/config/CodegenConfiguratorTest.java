@@ -49,24 +49,18 @@ public class CodegenConfiguratorTest {
     @Tested
     CodegenConfigurator configurator;
 
-    @SuppressWarnings("unused")
     @Test(enabled = false)
     public void testVerbose() throws Exception {
 
         configurator.setVerbose(true);
 
-        new StrictExpectations(System.class) {{
-            System.setProperty("debugSwagger", "");
-            times = 1;
-            System.setProperty("debugModels", "");
-            times = 1;
-            System.setProperty("debugOperations", "");
-            times = 1;
-            System.setProperty("debugSupportingFiles", "");
-            times = 1;
-        }};
+        final ClientOptInput clientOptInput = setupAndRunGenericTest(configurator);
 
-        setupAndRunGenericTest(configurator);
+        final Map<String, String> properties = clientOptInput.getGenerationContext().getProperties();
+        assertValueInMap(properties, "debugSwagger", "");
+        assertValueInMap(properties, "debugModels", "");
+        assertValueInMap(properties, "debugOperations", "");
+        assertValueInMap(properties, "debugSupportingFiles", "");
     }
 
     @Test(enabled = false)
@@ -87,11 +81,27 @@ public class CodegenConfiguratorTest {
         configurator.addSystemProperty("hello", "world")
                 .addSystemProperty("foo", "bar");
 
+        new Expectations(System.class) {{
+            System.setProperty(anyString, anyString);
+            times = 0;
+        }};
+
+        final ClientOptInput clientOptInput = setupAndRunGenericTest(configurator);
+
+        assertValueInMap(clientOptInput.getGenerationContext().getProperties(), "hello", "world");
+        assertValueInMap(clientOptInput.getGenerationContext().getProperties(), "foo", "bar");
+    }
+
+    @SuppressWarnings("unused")
+    @Test(enabled = false)
+    public void testExportSystemProperties() throws Exception {
+
+        configurator.setExportSystemProperties(true)
+                .addSystemProperty("hello", "world");
+
         new Expectations(System.class) {{
             System.setProperty("hello", "world");
             times = 1;
-            System.setProperty("foo", "bar");
-            times = 1;
         }};
 
         setupAndRunGenericTest(configurator);
@@ -0,0 +1,121 @@
+package io.swagger.codegen.daemon;
+
+import io.swagger.codegen.config.CodegenConfigurator;
+import io.swagger.v3.core.util.Json;
+import org.junit.rules.TemporaryFolder;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Properties;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+public class GeneratorDaemonTest {
+
+    private final TemporaryFolder folder = new TemporaryFolder();
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        folder.create();
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        folder.delete();
+    }
+
+    @Test(description = "clients find the daemon through its info file and can stop it")
+    public void testRequests() throws Exception {
+        final File infoFile = new File(folder.getRoot(), "daemon.properties");
+        assertNull(DaemonClient.find(infoFile));
+
+        final GeneratorDaemon daemon = new GeneratorDaemon(0, 1, 0, infoFile);
+        final Thread thread = new Thread(daemon::serve);
+        thread.start();
+        try {
+            final DaemonClient client = DaemonClient.find(infoFile);
+            assertNotNull(client);
+
+            final DaemonResponse invalidToken = new DaemonClient(daemon.getPort(), "invalid")
+                    .generate(new CodegenConfigurator(), null);
+            assertFalse(invalidToken.isSuccess());
+            assertEquals(invalidToken.getMessage(), "invalid token");
+
+            final DaemonResponse failed = client.generate(new CodegenConfigurator()
+                    .setInputSpec("src/test/resources/3_0_0/petstore.json"), null);
+            assertFalse(failed.isSuccess());
+            assertEquals(failed.getMessage(), "language must be specified");
+
+            final DaemonResponse unknownLanguage = client.generate(new CodegenConfigurator()
+                    .setLang("unknown-language")
+                    .setInputSpec("src/test/resources/3_0_0/petstore.json"), null);
+            assertEquals(unknownLanguage.getStatus(), DaemonResponse.Status.UNKNOWN_LANGUAGE);
+            assertTrue(unknownLanguage.isUnsupported());
+
+            final DaemonResponse otherVersion = send(daemon.getPort(), infoFile, "0.0.1");
+            assertEquals(otherVersion.getStatus(), DaemonResponse.Status.VERSION_MISMATCH);
+            assertTrue(otherVersion.isUnsupported());
+
+            client.stop();
+            thread.join(10000);
+            assertFalse(thread.isAlive());
+            assertFalse(infoFile.exists());
+        } finally {
+            daemon.close();
+        }
+        assertNull(DaemonClient.find(infoFile));
+    }
+
+    /**
+     * Sends a generation as a client of the given version.
+     */
+    @Test(description = "the info file holding the token is only accessible to its owner")
+    public void testInfoFilePermissions() throws Exception {
+        if (!FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+            return;
+        }
+        final File infoFile = new File(folder.getRoot(), "daemon.properties");
+        try (GeneratorDaemon daemon = new GeneratorDaemon(0, 1, 0, infoFile)) {
+            assertEquals(PosixFilePermissions.toString(Files.getPosixFilePermissions(infoFile.toPath())), "rw-------");
+            assertNotNull(DaemonClient.find(infoFile));
+        }
+    }
+
+    private static DaemonResponse send(int port, File infoFile, String version) throws Exception {
+        final Properties info = new Properties();
+        try (InputStream in = new FileInputStream(infoFile)) {
+            info.load(in);
+        }
+        final DaemonRequest request = new DaemonRequest();
+        request.setToken(info.getProperty(GeneratorDaemon.TOKEN));
+        request.setVersion(version);
+        request.setCommand(DaemonRequest.Command.GENERATE);
+        request.setConfigurator(new CodegenConfigurator().setLang("java"));
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port)) {
+            final Writer writer = new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8);
+            writer.write(Json.mapper().writeValueAsString(request));
+            writer.write('\n');
+            writer.flush();
+            final BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            return Json.mapper().readValue(reader.readLine(), DaemonResponse.class);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package io.swagger.codegen.output;
+
+import io.swagger.codegen.DefaultGenerator;
+import org.apache.commons.io.IOUtils;
+import org.junit.rules.TemporaryFolder;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Collections;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+public class OutputSinkTest {
+
+    private static final String OUTPUT_FOLDER = new File("target/never-created/content").getAbsolutePath();
+
+    private final TemporaryFolder folder = new TemporaryFolder();
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        folder.create();
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+        folder.delete();
+    }
+
+    @Test(description = "files are kept in memory by their relative path")
+    public void testInMemory() throws Exception {
+        final InMemoryOutputSink sink = new InMemoryOutputSink(OUTPUT_FOLDER);
+        final DefaultGenerator generator = new DefaultGenerator();
+        generator.setOutputSink(sink);
+        final String pet = OUTPUT_FOLDER + File.separator + "src" + File.separator + "Pet.java";
+
+        assertFalse(generator.getOutputSink().exists(pet));
+        generator.writeToFile(pet, writer -> writer.write("class Pet {}"));
+        generator.writeToFile(OUTPUT_FOLDER + File.separator + "README.md", "# Pets");
+
+        assertTrue(sink.exists(pet));
+        assertEquals(new String(sink.get("src/Pet.java"), StandardCharsets.UTF_8), "class Pet {}");
+        assertEquals(sink.getFiles().keySet().iterator().next(), "README.md");
+        assertNull(sink.get("Pet.java"));
+        assertFalse(new File(OUTPUT_FOLDER).exists());
+    }
+
+    @Test(description = "files are compressed into the zip stream as they are written")
+    public void testZip() throws Exception {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ZipOutputSink sink = new ZipOutputSink(out, OUTPUT_FOLDER)) {
+            sink.write(OUTPUT_FOLDER + "/src/Pet.java", writer -> writer.write("class Pet {}"));
+            sink.write(OUTPUT_FOLDER + "/README.md", "# Pets".getBytes(StandardCharsets.UTF_8));
+            assertTrue(sink.exists(OUTPUT_FOLDER + "/README.md"));
+            assertTrue(sink.getSkipped().isEmpty());
+        }
+
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            ZipEntry entry = zip.getNextEntry();
+            assertEquals(entry.getName(), "src/Pet.java");
+            assertEquals(IOUtils.toString(zip, StandardCharsets.UTF_8), "class Pet {}");
+            entry = zip.getNextEntry();
+            assertEquals(entry.getName(), "README.md");
+            assertEquals(IOUtils.toString(zip, StandardCharsets.UTF_8), "# Pets");
+            assertNull(zip.getNextEntry());
+        }
+    }
+
+    @Test(description = "streamed entries can't be replaced, writing a file again keeps the first contents")
+    public void testZipDuplicate() throws Exception {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ZipOutputSink sink = new ZipOutputSink(out, OUTPUT_FOLDER)) {
+            sink.write(OUTPUT_FOLDER + "/README.md", "# Pets".getBytes(StandardCharsets.UTF_8));
+            sink.write(OUTPUT_FOLDER + "/README.md", "# Other".getBytes(StandardCharsets.UTF_8));
+            sink.write(OUTPUT_FOLDER + "/README.md", writer -> writer.write("# Streamed"));
+            assertEquals(sink.getSkipped(), Collections.singleton("README.md"));
+        }
+
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            assertEquals(zip.getNextEntry().getName(), "README.md");
+            assertEquals(IOUtils.toString(zip, StandardCharsets.UTF_8), "# Pets");
+            assertNull(zip.getNextEntry());
+        }
+    }
+
+    @Test(description = "replaced files keep their permissions, new files get the umask default")
+    public void testFileSystemPermissions() throws Exception {
+        if (!FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+            return;
+        }
+        final FileSystemOutputSink sink = new FileSystemOutputSink(true);
+        final Path script = folder.getRoot().toPath().resolve("gradlew");
+        final Path reference = Files.createFile(folder.getRoot().toPath().resolve("reference"));
+
+        sink.write(script.toString(), writer -> writer.write("#!/bin/sh"));
+        assertEquals(Files.getPosixFilePermissions(script), Files.getPosixFilePermissions(reference));
+
+        Files.setPosixFilePermissions(script, PosixFilePermissions.fromString("rwxr-x---"));
+        sink.write(script.toString(), writer -> writer.write("#!/bin/bash"));
+        sink.write(script.toString(), "#!/bin/zsh".getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(new String(Files.readAllBytes(script), StandardCharsets.UTF_8), "#!/bin/zsh");
+        assertEquals(PosixFilePermissions.toString(Files.getPosixFilePermissions(script)), "rwxr-x---");
+    }
+
+    @Test(description = "a failing template leaves the previous file intact")
+    public void testFileSystemFailedWrite() throws Exception {
+        final FileSystemOutputSink sink = new FileSystemOutputSink();
+        final File pet = new File(folder.getRoot(), "Pet.java");
+        sink.write(pet.getPath(), writer -> writer.write("class Pet {}"));
+
+        try {
+            sink.write(pet.getPath(), writer -> {
+                writer.write("class");
+                throw new IOException("template failed");
+            });
+            fail("Expected the template to fail");
+        } catch (IOException e) {
+            assertEquals(e.getMessage(), "template failed");
+        }
+
+        assertEquals(new String(Files.readAllBytes(pet.toPath()), StandardCharsets.UTF_8), "class Pet {}");
+        assertEquals(folder.getRoot().list().length, 1);
+    }
+
+    @Test(description = "files outside the output folder are rejected", expectedExceptions = IOException.class)
+    public void testOutsideOutputFolder() throws Exception {
+        new InMemoryOutputSink(OUTPUT_FOLDER).write(OUTPUT_FOLDER + "/../Pet.java", new byte[0]);
+    }
+}
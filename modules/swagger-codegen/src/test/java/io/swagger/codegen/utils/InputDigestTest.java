@@ -0,0 +1,91 @@
+package io.swagger.codegen.utils;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.rules.TemporaryFolder;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertTrue;
+
+public class InputDigestTest {
+
+    private final TemporaryFolder folder = new TemporaryFolder();
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        folder.create();
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        folder.delete();
+    }
+
+    @Test(description = "the digest covers the files of external references")
+    public void testExternalRefs() throws Exception {
+        final File spec = write("spec.yaml", "openapi: 3.0.0\n"
+                + "components:\n"
+                + "  schemas:\n"
+                + "    Pet:\n"
+                + "      $ref: 'models/pet.yaml#/Pet'\n");
+        final File pet = write("models/pet.yaml", "Pet:\n  type: object\n");
+
+        final InputDigest digest = digest(spec);
+        assertTrue(digest.isComplete());
+        assertEquals(digest.getFiles().size(), 2);
+        assertEquals(digest(spec).hash(), digest.hash());
+
+        FileUtils.writeStringToFile(pet, "Pet:\n  type: string\n", StandardCharsets.UTF_8);
+        assertNotEquals(digest(spec).hash(), digest.hash());
+    }
+
+    @Test(description = "the digest covers the options")
+    public void testOptions() throws Exception {
+        final File spec = write("spec.yaml", "openapi: 3.0.0\n");
+        final String hash = digest(spec).put("lang", "java").hash();
+        assertEquals(digest(spec).put("lang", "java").hash(), hash);
+        assertNotEquals(digest(spec).put("lang", "python").hash(), hash);
+        assertNotEquals(digest(spec).put("lang", Collections.singletonMap("lang", "java")).hash(), hash);
+    }
+
+    @Test(description = "specs and references read from urls make the digest incomplete")
+    public void testRemoteRefs() throws Exception {
+        final File spec = write("spec.yaml", "openapi: 3.0.0\n"
+                + "components:\n"
+                + "  schemas:\n"
+                + "    Pet:\n"
+                + "      $ref: 'http://localhost/pet.yaml#/Pet'\n");
+        assertFalse(digest(spec).isComplete());
+        assertFalse(new InputDigest().putSpec("http://localhost/spec.yaml").isComplete());
+    }
+
+    @Test(description = "the digest covers the jar a generator is loaded from")
+    public void testClassSource() {
+        final InputDigest digest = new InputDigest().putClassSource(Test.class);
+        assertTrue(digest.isComplete());
+        assertTrue(digest.getFiles().iterator().next().getName().endsWith(".jar"));
+        assertEquals(new InputDigest().putClassSource(Test.class).hash(), digest.hash());
+        assertNotEquals(new InputDigest().putClassSource(FileUtils.class).hash(), digest.hash());
+
+        // classes of the jdk have no code source
+        assertFalse(new InputDigest().putClassSource(String.class).isComplete());
+    }
+
+    private static InputDigest digest(File spec) {
+        return new InputDigest().putSpec(spec.getPath());
+    }
+
+    private File write(String path, String content) throws Exception {
+        final File file = new File(folder.getRoot(), path);
+        FileUtils.writeStringToFile(file, content, StandardCharsets.UTF_8);
+        return file;
+    }
+}
@@ -0,0 +1,34 @@
+package io.swagger.codegen.utils;
+
+import io.swagger.codegen.DefaultCodegen;
+import io.swagger.codegen.config.CodegenConfigurator;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.Schema;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+public class OpenAPISnapshotTest {
+
+    @Test(description = "copies are independent and keep the schema types of the parsed spec")
+    public void testCopy() {
+        final OpenAPI openAPI = new CodegenConfigurator()
+                .setLang(DefaultCodegen.class.getName())
+                .setInputSpec("src/test/resources/3_0_0/petstore.json")
+                .readOpenAPI();
+        final OpenAPISnapshot snapshot = new OpenAPISnapshot(openAPI);
+
+        final OpenAPI copy = snapshot.copy();
+        assertEquals(Json.pretty(copy), Json.pretty(openAPI));
+        final Schema pet = openAPI.getComponents().getSchemas().get("Pet");
+        final Schema petCopy = copy.getComponents().getSchemas().get("Pet");
+        for (Object name : pet.getProperties().keySet()) {
+            assertEquals(petCopy.getProperties().get(name).getClass(), pet.getProperties().get(name).getClass());
+        }
+
+        copy.getComponents().getSchemas().remove("Pet");
+        assertTrue(snapshot.copy().getComponents().getSchemas().containsKey("Pet"));
+    }
+}
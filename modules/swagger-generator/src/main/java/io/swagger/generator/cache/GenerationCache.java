@@ -0,0 +1,271 @@
+package io.swagger.generator.cache;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalCause;
+import com.google.common.hash.Funnels;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import io.swagger.v3.core.util.Json;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache of generated zip bundles, keyed by a hash of the parsed spec and the generation options.
+ * <p>
+ * Bundles are kept in memory and, if a cache directory is configured, on local disk. Both tiers are bounded by
+ * their total size in bytes and evict the least recently used bundles first. Bundles evicted from memory are
+ * still served from disk.
+ * <p>
+ * The shared instance is configured with system properties:
+ * <ul>
+ * <li><code>swagger.generator.cache.enabled</code>: false disables the cache, default true</li>
+ * <li><code>swagger.generator.cache.memorySize</code>: max bytes kept in memory, default 64 MB</li>
+ * <li><code>swagger.generator.cache.directory</code>: directory of the disk tier, no disk tier if not set</li>
+ * <li><code>swagger.generator.cache.diskSize</code>: max bytes kept on disk, default 1 GB</li>
+ * </ul>
+ */
+public class GenerationCache {
+    private static final Logger LOGGER = LoggerFactory.getLogger(GenerationCache.class);
+
+    public static final String ENABLED_PROPERTY = "swagger.generator.cache.enabled";
+    public static final String MEMORY_SIZE_PROPERTY = "swagger.generator.cache.memorySize";
+    public static final String DIRECTORY_PROPERTY = "swagger.generator.cache.directory";
+    public static final String DISK_SIZE_PROPERTY = "swagger.generator.cache.diskSize";
+
+    private static final long DEFAULT_MEMORY_SIZE = 64L * 1024 * 1024;
+    private static final long DEFAULT_DISK_SIZE = 1024L * 1024 * 1024;
+    private static final String SUFFIX = ".zip";
+
+    private static final ObjectMapper CANONICAL_MAPPER = Json.mapper().copy()
+            .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true)
+            .configure(SerializationFeature.INDENT_OUTPUT, false)
+            .configure(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY, true)
+            .configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+
+    private static GenerationCache instance;
+
+    private final boolean enabled;
+    private final Cache<String, byte[]> memory;
+    private final File directory;
+    private final long diskSize;
+    private final AtomicLong diskUsage = new AtomicLong();
+
+    private final AtomicLong memoryHits = new AtomicLong();
+    private final AtomicLong diskHits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong memoryEvictions = new AtomicLong();
+    private final AtomicLong diskEvictions = new AtomicLong();
+
+    /**
+     * @param memorySize max bytes kept in memory
+     * @param directory directory of the disk tier, null to only cache in memory
+     * @param diskSize max bytes kept on disk
+     */
+    public GenerationCache(long memorySize, File directory, long diskSize) {
+        this(true, memorySize, directory, diskSize);
+    }
+
+    private GenerationCache(boolean enabled, long memorySize, File directory, long diskSize) {
+        this.enabled = enabled;
+        this.memory = CacheBuilder.newBuilder()
+                // a single segment, so the whole memory size is available to large bundles
+                .concurrencyLevel(1)
+                .maximumWeight(memorySize)
+                .weigher((String key, byte[] bundle) -> bundle.length)
+                .removalListener(notification -> {
+                    if (notification.getCause() == RemovalCause.SIZE) {
+                        memoryEvictions.incrementAndGet();
+                    }
+                })
+                .build();
+        this.diskSize = diskSize;
+        this.directory = enabled ? directory : null;
+        if (this.directory != null) {
+            this.directory.mkdirs();
+            for (File file : listBundles()) {
+                diskUsage.addAndGet(file.length());
+            }
+        }
+    }
+
+    /**
+     * @return cache shared by the generator service, configured with system properties
+     */
+    public static synchronized GenerationCache getInstance() {
+        if (instance == null) {
+            final String directory = System.getProperty(DIRECTORY_PROPERTY);
+            instance = new GenerationCache(
+                    Boolean.parseBoolean(System.getProperty(ENABLED_PROPERTY, "true")),
+                    Long.getLong(MEMORY_SIZE_PROPERTY, DEFAULT_MEMORY_SIZE),
+                    directory != null ? new File(directory) : null,
+                    Long.getLong(DISK_SIZE_PROPERTY, DEFAULT_DISK_SIZE));
+        }
+        return instance;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Hashes the canonical JSON form of the given parts: maps and bean properties are sorted, so equal specs and
+     * options give the same key whatever the order of their fields.
+     *
+     * @param parts parsed spec, generation options and anything else the bundle depends on
+     * @return cache key
+     */
+    public static String key(Object... parts) {
+        final Hasher hasher = Hashing.sha256().newHasher();
+        try (OutputStream out = Funnels.asOutputStream(hasher)) {
+            for (Object part : parts) {
+                CANONICAL_MAPPER.writeValue(out, part);
+                out.write(0);
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Could not compute the cache key", e);
+        }
+        return hasher.hash().toString();
+    }
+
+    /**
+     * @param key cache key
+     * @return cached bundle, or null if not cached
+     */
+    public byte[] get(String key) {
+        if (!enabled) {
+            return null;
+        }
+        byte[] bundle = memory.getIfPresent(key);
+        if (bundle != null) {
+            memoryHits.incrementAndGet();
+            return bundle;
+        }
+        bundle = readFromDisk(key);
+        if (bundle != null) {
+            diskHits.incrementAndGet();
+            memory.put(key, bundle);
+            return bundle;
+        }
+        misses.incrementAndGet();
+        return null;
+    }
+
+    /**
+     * @param key cache key
+     * @param bundle generated bundle, must not be modified afterwards
+     */
+    public void put(String key, byte[] bundle) {
+        if (!enabled) {
+            return;
+        }
+        memory.put(key, bundle);
+        writeToDisk(key, bundle);
+    }
+
+    /**
+     * @return hit, miss and eviction counts, and the bytes used by each tier
+     */
+    public Map<String, Long> getStats() {
+        final Map<String, Long> stats = new LinkedHashMap<>();
+        stats.put("memoryHits", memoryHits.get());
+        stats.put("diskHits", diskHits.get());
+        stats.put("misses", misses.get());
+        stats.put("memoryEvictions", memoryEvictions.get());
+        stats.put("diskEvictions", diskEvictions.get());
+        long memoryUsage = 0;
+        for (byte[] bundle : memory.asMap().values()) {
+            memoryUsage += bundle.length;
+        }
+        stats.put("memoryEntries", memory.size());
+        stats.put("memoryBytes", memoryUsage);
+        stats.put("diskBytes", diskUsage.get());
+        return stats;
+    }
+
+    private byte[] readFromDisk(String key) {
+        if (directory == null) {
+            return null;
+        }
+        final File file = new File(directory, key + SUFFIX);
+        if (!file.isFile()) {
+            return null;
+        }
+        try {
+            final byte[] bundle = Files.readAllBytes(file.toPath());
+            // least recently used bundles are evicted first
+            file.setLastModified(System.currentTimeMillis());
+            return bundle;
+        } catch (IOException e) {
+            LOGGER.warn("Could not read cached bundle " + file, e);
+            return null;
+        }
+    }
+
+    private void writeToDisk(String key, byte[] bundle) {
+        if (directory == null || bundle.length > diskSize) {
+            return;
+        }
+        final File file = new File(directory, key + SUFFIX);
+        Path temp = null;
+        try {
+            temp = Files.createTempFile(directory.toPath(), "." + key, ".tmp");
+            Files.write(temp, bundle);
+            final long previous = file.isFile() ? file.length() : 0;
+            try {
+                Files.move(temp, file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+            diskUsage.addAndGet(bundle.length - previous);
+        } catch (IOException e) {
+            LOGGER.warn("Could not write cached bundle " + file, e);
+            return;
+        } finally {
+            if (temp != null) {
+                temp.toFile().delete();
+            }
+        }
+        evictFromDisk();
+    }
+
+    private synchronized void evictFromDisk() {
+        if (diskUsage.get() <= diskSize) {
+            return;
+        }
+        final File[] files = listBundles();
+        Arrays.sort(files, Comparator.comparingLong(File::lastModified));
+        for (File file : files) {
+            if (diskUsage.get() <= diskSize) {
+                break;
+            }
+            final long length = file.length();
+            if (file.delete()) {
+                diskUsage.addAndGet(-length);
+                diskEvictions.incrementAndGet();
+            }
+        }
+    }
+
+    private File[] listBundles() {
+        final File[] files = directory.listFiles((dir, name) -> name.endsWith(SUFFIX));
+        return files != null ? files : new File[0];
+    }
+}
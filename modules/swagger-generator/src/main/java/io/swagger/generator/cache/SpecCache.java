@@ -0,0 +1,227 @@
+package io.swagger.generator.cache;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+import io.swagger.codegen.auth.AuthParser;
+import io.swagger.codegen.utils.OpenAPISnapshot;
+import io.swagger.parser.OpenAPIParser;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.core.util.Yaml;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.parser.OpenAPIResolver;
+import io.swagger.v3.parser.core.models.AuthorizationValue;
+import io.swagger.v3.parser.core.models.ParseOptions;
+import io.swagger.v3.parser.util.InlineModelResolver;
+import io.swagger.v3.parser.util.OpenAPIDeserializer;
+import org.apache.commons.io.IOUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Cache of specs parsed from remote urls, so generating the same spec for several languages in a row fetches and
+ * resolves it once.
+ * <p>
+ * Each lookup revalidates the cached spec: the url is fetched again with the <code>ETag</code> and
+ * <code>Last-Modified</code> validators of the cached response, and the spec is only parsed again if the server
+ * answers with contents whose hash differs from the cached ones. OpenAPI 3 specs are parsed from the fetched contents,
+ * with relative references resolved against the url; swagger 2.0 specs are converted by the parser extensions, which
+ * fetch the url again.
+ * <p>
+ * Codegens modify the spec they generate from, so specs are kept as {@link OpenAPISnapshot} and every lookup returns a
+ * new copy. Entries are bounded by their total serialized size and the least recently used are evicted first.
+ * <p>
+ * The shared instance is configured with system properties:
+ * <ul>
+ * <li><code>swagger.generator.specCache.enabled</code>: false disables the cache, default true</li>
+ * <li><code>swagger.generator.specCache.size</code>: max bytes of serialized specs, default 32 MB</li>
+ * </ul>
+ */
+public class SpecCache {
+    private static final Logger LOGGER = LoggerFactory.getLogger(SpecCache.class);
+
+    public static final String ENABLED_PROPERTY = "swagger.generator.specCache.enabled";
+    public static final String SIZE_PROPERTY = "swagger.generator.specCache.size";
+
+    private static final long DEFAULT_SIZE = 32L * 1024 * 1024;
+    private static final int TIMEOUT = 30000;
+
+    private static SpecCache instance;
+
+    private final boolean enabled;
+    private final Cache<String, Entry> entries;
+
+    /**
+     * @param size max bytes of serialized specs
+     */
+    public SpecCache(long size) {
+        this(true, size);
+    }
+
+    private SpecCache(boolean enabled, long size) {
+        this.enabled = enabled;
+        this.entries = CacheBuilder.newBuilder()
+                // a single segment, so the whole size is available to large specs
+                .concurrencyLevel(1)
+                .maximumWeight(size)
+                .weigher((String key, Entry entry) -> entry.spec.getSize())
+                .build();
+    }
+
+    /**
+     * @return cache shared by the generator service, configured with system properties
+     */
+    public static synchronized SpecCache getInstance() {
+        if (instance == null) {
+            instance = new SpecCache(
+                    Boolean.parseBoolean(System.getProperty(ENABLED_PROPERTY, "true")),
+                    Long.getLong(SIZE_PROPERTY, DEFAULT_SIZE));
+        }
+        return instance;
+    }
+
+    /**
+     * @param location url or path of the spec, only http and https urls are cached
+     * @param auth url-encoded authorization headers sent when fetching the spec, see {@link AuthParser}
+     * @return parsed and resolved spec, a copy the caller may modify, or null if the spec can't be parsed
+     */
+    public OpenAPI get(String location, String auth) {
+        if (!enabled || !isRemote(location)) {
+            return parse(location, auth);
+        }
+        final String key = auth != null ? location + '\n' + auth : location;
+        final Entry cached = entries.getIfPresent(key);
+        final Response response;
+        try {
+            response = fetch(location, auth, cached);
+        } catch (IOException e) {
+            LOGGER.warn("Could not revalidate " + location + ", parsing it without the cache", e);
+            return parse(location, auth);
+        }
+        if (response == null) {
+            LOGGER.debug("Spec " + location + " not modified");
+            return cached.spec.copy();
+        }
+        final String hash = Hashing.sha256().hashBytes(response.content).toString();
+        if (cached != null && cached.hash.equals(hash)) {
+            LOGGER.debug("Spec " + location + " unchanged");
+            entries.put(key, new Entry(response.etag, response.lastModified, hash, cached.spec));
+            return cached.spec.copy();
+        }
+        final OpenAPI openAPI = parse(location, auth, response.content);
+        if (openAPI != null) {
+            entries.put(key, new Entry(response.etag, response.lastModified, hash, new OpenAPISnapshot(openAPI)));
+        }
+        return openAPI;
+    }
+
+    /**
+     * @return number of cached specs
+     */
+    public long size() {
+        return entries.size();
+    }
+
+    private static boolean isRemote(String location) {
+        return location != null && (location.startsWith("http://") || location.startsWith("https://"));
+    }
+
+    private static OpenAPI parse(String location, String auth) {
+        final ParseOptions options = new ParseOptions();
+        options.setResolve(true);
+        options.setFlatten(true);
+        return new OpenAPIParser().readLocation(location, AuthParser.parse(auth), options).getOpenAPI();
+    }
+
+    private static OpenAPI parse(String location, String auth, byte[] content) {
+        final String text = new String(content, StandardCharsets.UTF_8);
+        final JsonNode node;
+        try {
+            node = (text.trim().startsWith("{") ? Json.mapper() : Yaml.mapper()).readTree(text);
+        } catch (IOException e) {
+            LOGGER.warn("Could not read spec " + location, e);
+            return null;
+        }
+        if (node == null || !node.has("openapi")) {
+            return parse(location, auth);
+        }
+        final OpenAPI openAPI = new OpenAPIDeserializer().deserialize(node).getOpenAPI();
+        if (openAPI == null) {
+            return null;
+        }
+        // same steps as the parser reading the location, with refs relative to the location
+        final OpenAPI resolved = new OpenAPIResolver(openAPI, AuthParser.parse(auth), location).resolve();
+        new InlineModelResolver().flatten(resolved);
+        return resolved;
+    }
+
+    /**
+     * @return the response, or null if the cached entry is not modified
+     */
+    private static Response fetch(String location, String auth, Entry cached) throws IOException {
+        final HttpURLConnection connection = (HttpURLConnection) new URL(location).openConnection();
+        try {
+            connection.setConnectTimeout(TIMEOUT);
+            connection.setReadTimeout(TIMEOUT);
+            connection.setRequestProperty("Accept", "application/json, application/yaml, */*");
+            final List<AuthorizationValue> authorizationValues = AuthParser.parse(auth);
+            for (AuthorizationValue authorizationValue : authorizationValues) {
+                connection.setRequestProperty(authorizationValue.getKeyName(), authorizationValue.getValue());
+            }
+            if (cached != null) {
+                if (cached.etag != null) {
+                    connection.setRequestProperty("If-None-Match", cached.etag);
+                }
+                if (cached.lastModified != null) {
+                    connection.setRequestProperty("If-Modified-Since", cached.lastModified);
+                }
+            }
+            final int status = connection.getResponseCode();
+            if (status == HttpURLConnection.HTTP_NOT_MODIFIED && cached != null) {
+                return null;
+            }
+            if (status != HttpURLConnection.HTTP_OK) {
+                throw new IOException("Unexpected status " + status);
+            }
+            try (InputStream in = connection.getInputStream()) {
+                return new Response(IOUtils.toByteArray(in), connection.getHeaderField("ETag"), connection.getHeaderField("Last-Modified"));
+            }
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    private static class Response {
+        private final byte[] content;
+        private final String etag;
+        private final String lastModified;
+
+        private Response(byte[] content, String etag, String lastModified) {
+            this.content = content;
+            this.etag = etag;
+            this.lastModified = lastModified;
+        }
+    }
+
+    private static class Entry {
+        private final String etag;
+        private final String lastModified;
+        private final String hash;
+        private final OpenAPISnapshot spec;
+
+        private Entry(String etag, String lastModified, String hash, OpenAPISnapshot spec) {
+            this.etag = etag;
+            this.lastModified = lastModified;
+            this.hash = hash;
+            this.spec = spec;
+        }
+    }
+}
@@ -0,0 +1,319 @@
+package io.swagger.generator.jobs;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.swagger.codegen.GenerationContext;
+import io.swagger.generator.model.GenerationJob;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.Date;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs generations in the background, so clients submit a job, poll its status and download the bundle once done
+ * instead of holding a request open for the whole generation.
+ * <p>
+ * Jobs run on a fixed number of workers; submitting fails with a {@link RejectedExecutionException} once the queue
+ * of waiting jobs is full. Cancelling a job, or running past its timeout, stops the generator before it renders its
+ * next file. Finished jobs and their bundles are dropped after the retention period. The bundles kept are bounded by
+ * their total size in bytes: once over it, the bundles of the oldest jobs are dropped first, and those jobs stay
+ * {@link GenerationJob.Status#DONE} without a result.
+ * <p>
+ * The shared instance is configured with system properties:
+ * <ul>
+ * <li><code>swagger.generator.jobs.workers</code>: jobs running at the same time, default the number of processors</li>
+ * <li><code>swagger.generator.jobs.queueSize</code>: jobs waiting for a worker, default 100</li>
+ * <li><code>swagger.generator.jobs.timeout</code>: max seconds a job runs, 0 for no timeout, default 600</li>
+ * <li><code>swagger.generator.jobs.retention</code>: seconds finished jobs are kept, default 3600</li>
+ * <li><code>swagger.generator.jobs.resultsSize</code>: max bytes of bundles kept, default 256 MB</li>
+ * </ul>
+ */
+public class GenerationJobs {
+    private static final Logger LOGGER = LoggerFactory.getLogger(GenerationJobs.class);
+
+    public static final String WORKERS_PROPERTY = "swagger.generator.jobs.workers";
+    public static final String QUEUE_SIZE_PROPERTY = "swagger.generator.jobs.queueSize";
+    public static final String TIMEOUT_PROPERTY = "swagger.generator.jobs.timeout";
+    public static final String RETENTION_PROPERTY = "swagger.generator.jobs.retention";
+    public static final String RESULTS_SIZE_PROPERTY = "swagger.generator.jobs.resultsSize";
+
+    private static final int DEFAULT_QUEUE_SIZE = 100;
+    private static final long DEFAULT_TIMEOUT = 600;
+    private static final long DEFAULT_RETENTION = 3600;
+    private static final long DEFAULT_RESULTS_SIZE = 256L * 1024 * 1024;
+    private static final String RESULT_DROPPED = "Result dropped to free memory, submit the job again";
+
+    private static GenerationJobs instance;
+
+    private final ThreadPoolExecutor executor;
+    private final ScheduledExecutorService scheduler;
+    private final long timeout;
+    private final long retention;
+    private final long resultsSize;
+    private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+    // jobs keeping their bundle, oldest first; guards resultsUsage
+    private final Deque<Job> results = new ArrayDeque<>();
+    private long resultsUsage;
+
+    /**
+     * Generation run by a job.
+     */
+    @FunctionalInterface
+    public interface Task {
+
+        /**
+         * @param context context of the job, the task must generate with it so the job can be cancelled
+         * @return generated bundle
+         * @throws Exception if the generation fails
+         */
+        byte[] run(GenerationContext context) throws Exception;
+    }
+
+    /**
+     * @param workers jobs running at the same time
+     * @param queueSize jobs waiting for a worker
+     * @param timeout max milliseconds a job runs, 0 for no timeout
+     * @param retention milliseconds finished jobs are kept
+     */
+    public GenerationJobs(int workers, int queueSize, long timeout, long retention) {
+        this(workers, queueSize, timeout, retention, DEFAULT_RESULTS_SIZE);
+    }
+
+    /**
+     * @param workers jobs running at the same time
+     * @param queueSize jobs waiting for a worker
+     * @param timeout max milliseconds a job runs, 0 for no timeout
+     * @param retention milliseconds finished jobs are kept
+     * @param resultsSize max bytes of the bundles kept
+     */
+    public GenerationJobs(int workers, int queueSize, long timeout, long retention, long resultsSize) {
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueSize),
+                new ThreadFactoryBuilder().setNameFormat("generation-job-%d").setDaemon(true).build());
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(
+                new ThreadFactoryBuilder().setNameFormat("generation-job-timer").setDaemon(true).build());
+        this.timeout = timeout;
+        this.retention = retention;
+        this.resultsSize = resultsSize;
+        final long purgeDelay = Math.max(1000L, Math.min(retention, 60000L));
+        scheduler.scheduleWithFixedDelay(this::purge, purgeDelay, purgeDelay, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @return jobs of the generator service, configured with system properties
+     */
+    public static synchronized GenerationJobs getInstance() {
+        if (instance == null) {
+            instance = new GenerationJobs(
+                    Integer.getInteger(WORKERS_PROPERTY, Runtime.getRuntime().availableProcessors()),
+                    Integer.getInteger(QUEUE_SIZE_PROPERTY, DEFAULT_QUEUE_SIZE),
+                    TimeUnit.SECONDS.toMillis(Long.getLong(TIMEOUT_PROPERTY, DEFAULT_TIMEOUT)),
+                    TimeUnit.SECONDS.toMillis(Long.getLong(RETENTION_PROPERTY, DEFAULT_RETENTION)),
+                    Long.getLong(RESULTS_SIZE_PROPERTY, DEFAULT_RESULTS_SIZE));
+        }
+        return instance;
+    }
+
+    /**
+     * @param task generation to run
+     * @return the queued job
+     * @throws RejectedExecutionException if the queue is full
+     */
+    public GenerationJob submit(Task task) {
+        final Job job = new Job(UUID.randomUUID().toString());
+        jobs.put(job.id, job);
+        try {
+            job.future = executor.submit(() -> run(job, task));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.id);
+            throw e;
+        }
+        return job.snapshot();
+    }
+
+    /**
+     * @param id job id
+     * @return status of the job, or null if unknown
+     */
+    public GenerationJob get(String id) {
+        final Job job = jobs.get(id);
+        return job != null ? job.snapshot() : null;
+    }
+
+    /**
+     * @param id job id
+     * @return bundle generated by the job, or null if unknown, not done, or done but its bundle was dropped
+     */
+    public byte[] getResult(String id) {
+        final Job job = jobs.get(id);
+        if (job == null) {
+            return null;
+        }
+        synchronized (job) {
+            return job.result;
+        }
+    }
+
+    /**
+     * Removes a queued job from the queue, or stops a running job before it renders its next file. Finished jobs
+     * are left unchanged.
+     *
+     * @param id job id
+     * @return status of the job, or null if unknown
+     */
+    public GenerationJob cancel(String id) {
+        final Job job = jobs.get(id);
+        if (job == null) {
+            return null;
+        }
+        job.context.cancel();
+        synchronized (job) {
+            if (job.status == GenerationJob.Status.QUEUED) {
+                job.finish(GenerationJob.Status.CANCELLED, "Generation cancelled", null);
+                if (job.future != null) {
+                    executor.remove((Runnable) job.future);
+                }
+            }
+        }
+        return job.snapshot();
+    }
+
+    /**
+     * @return jobs waiting for a worker
+     */
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    private void run(Job job, Task task) {
+        synchronized (job) {
+            if (job.status != GenerationJob.Status.QUEUED) {
+                return;
+            }
+            job.status = GenerationJob.Status.RUNNING;
+            job.started = new Date();
+        }
+        final ScheduledFuture<?> timer = timeout > 0 ? scheduler.schedule(() -> {
+            job.timedOut = true;
+            job.context.cancel();
+        }, timeout, TimeUnit.MILLISECONDS) : null;
+        try {
+            final byte[] result = task.run(job.context);
+            done(job, result);
+        } catch (Throwable e) {
+            synchronized (job) {
+                if (job.timedOut) {
+                    job.finish(GenerationJob.Status.FAILED, "Generation timed out after " + timeout + " ms", null);
+                } else if (job.context.isCancelled()) {
+                    job.finish(GenerationJob.Status.CANCELLED, "Generation cancelled", null);
+                } else {
+                    LOGGER.error("Generation job " + job.id + " failed", e);
+                    job.finish(GenerationJob.Status.FAILED, e.getMessage(), null);
+                }
+            }
+        } finally {
+            if (timer != null) {
+                timer.cancel(false);
+            }
+        }
+    }
+
+    /**
+     * Finishes the job keeping its bundle, and drops the bundles of the oldest jobs once over the size limit.
+     */
+    private void done(Job job, byte[] result) {
+        synchronized (results) {
+            synchronized (job) {
+                job.finish(GenerationJob.Status.DONE, null, result);
+                if (result == null) {
+                    return;
+                }
+                results.addLast(job);
+                resultsUsage += result.length;
+            }
+            while (resultsUsage > resultsSize && !results.isEmpty()) {
+                final Job oldest = results.removeFirst();
+                synchronized (oldest) {
+                    resultsUsage -= oldest.result.length;
+                    oldest.result = null;
+                    oldest.message = RESULT_DROPPED;
+                }
+                LOGGER.info("Dropped the result of generation job " + oldest.id + " to free memory");
+            }
+        }
+    }
+
+    private void purge() {
+        final long expired = System.currentTimeMillis() - retention;
+        final Iterator<Job> iterator = jobs.values().iterator();
+        while (iterator.hasNext()) {
+            final Job job = iterator.next();
+            final boolean purged;
+            synchronized (job) {
+                purged = job.finished != null && job.finished.getTime() < expired;
+            }
+            if (purged) {
+                iterator.remove();
+                release(job);
+            }
+        }
+    }
+
+    private void release(Job job) {
+        synchronized (results) {
+            if (results.remove(job)) {
+                synchronized (job) {
+                    resultsUsage -= job.result.length;
+                    job.result = null;
+                }
+            }
+        }
+    }
+
+    private static class Job {
+        private final String id;
+        private final GenerationContext context = new GenerationContext();
+        private final Date created = new Date();
+        private volatile Future<?> future;
+        private volatile boolean timedOut;
+        private GenerationJob.Status status = GenerationJob.Status.QUEUED;
+        private String message;
+        private Date started;
+        private Date finished;
+        private byte[] result;
+
+        private Job(String id) {
+            this.id = id;
+        }
+
+        private void finish(GenerationJob.Status status, String message, byte[] result) {
+            this.status = status;
+            this.message = message;
+            this.result = result;
+            this.finished = new Date();
+        }
+
+        private synchronized GenerationJob snapshot() {
+            return new GenerationJob()
+                    .id(id)
+                    .status(status)
+                    .message(message)
+                    .created(created)
+                    .started(started)
+                    .finished(finished);
+        }
+    }
+}
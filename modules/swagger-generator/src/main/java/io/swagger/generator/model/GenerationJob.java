@@ -0,0 +1,95 @@
+package io.swagger.generator.model;
+
+import java.util.Date;
+
+public class GenerationJob {
+
+    public enum Status {
+        QUEUED, RUNNING, DONE, FAILED, CANCELLED
+    }
+
+    private String id = null;
+    private Status status = null;
+    private String message = null;
+    private Date created = null;
+    private Date started = null;
+    private Date finished = null;
+
+    public GenerationJob id(String id) {
+        this.id = id;
+        return this;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public GenerationJob status(Status status) {
+        this.status = status;
+        return this;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    public GenerationJob message(String message) {
+        this.message = message;
+        return this;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    public GenerationJob created(Date created) {
+        this.created = created;
+        return this;
+    }
+
+    public Date getCreated() {
+        return created;
+    }
+
+    public void setCreated(Date created) {
+        this.created = created;
+    }
+
+    public GenerationJob started(Date started) {
+        this.started = started;
+        return this;
+    }
+
+    public Date getStarted() {
+        return started;
+    }
+
+    public void setStarted(Date started) {
+        this.started = started;
+    }
+
+    public GenerationJob finished(Date finished) {
+        this.finished = finished;
+        return this;
+    }
+
+    public Date getFinished() {
+        return finished;
+    }
+
+    public void setFinished(Date finished) {
+        this.finished = finished;
+    }
+}
@@ -1,6 +1,7 @@
     package io.swagger.generator.model;
 
 import java.io.Serializable;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
@@ -9,6 +10,9 @@ public class GenerationRequest implements Serializable {
 
     private Object spec = null;
     private Options options = null;
+    private Boolean stream = null;
+    private Integer compressionLevel = null;
+    private List<Options> targets = null;
 
     public GenerationRequest spec(Object spec) {
         this.spec = spec;
@@ -35,4 +39,43 @@ public class GenerationRequest implements Serializable {
     public void setOptions(Options options) {
         this.options = options;
     }
+
+    public GenerationRequest stream(Boolean stream) {
+        this.stream = stream;
+        return this;
+    }
+
+    public Boolean getStream() {
+        return stream;
+    }
+
+    public void setStream(Boolean stream) {
+        this.stream = stream;
+    }
+
+    public GenerationRequest compressionLevel(Integer compressionLevel) {
+        this.compressionLevel = compressionLevel;
+        return this;
+    }
+
+    public Integer getCompressionLevel() {
+        return compressionLevel;
+    }
+
+    public void setCompressionLevel(Integer compressionLevel) {
+        this.compressionLevel = compressionLevel;
+    }
+
+    public GenerationRequest targets(List<Options> targets) {
+        this.targets = targets;
+        return this;
+    }
+
+    public List<Options> getTargets() {
+        return targets;
+    }
+
+    public void setTargets(List<Options> targets) {
+        this.targets = targets;
+    }
 }
@@ -2,17 +2,24 @@ package io.swagger.generator.online;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import io.swagger.codegen.ClientOptInput;
-import io.swagger.codegen.CodegenConfig;
+import io.swagger.codegen.CodegenConfigRegistry;
 import io.swagger.codegen.CodegenType;
 import io.swagger.codegen.DefaultGenerator;
+import io.swagger.codegen.GenerationContext;
+import io.swagger.codegen.MultiTargetGenerator;
 import io.swagger.codegen.config.CodegenConfigurator;
+import io.swagger.codegen.output.OutputSink;
+import io.swagger.codegen.output.ZipOutputSink;
+import io.swagger.codegen.utils.ImplementationVersion;
+import io.swagger.generator.cache.GenerationCache;
 import io.swagger.generator.model.GenerationRequest;
+import io.swagger.generator.model.Options;
 import io.swagger.generator.util.GeneratorUtil;
-import io.swagger.generator.util.ZipUtil;
 import io.swagger.oas.inflector.models.RequestContext;
 import io.swagger.oas.inflector.models.ResponseContext;
 import io.swagger.v3.core.util.Json;
 import io.swagger.v3.core.util.Yaml;
+import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.parser.util.RemoteUrl;
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -21,27 +28,34 @@ import org.slf4j.LoggerFactory;
 
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
-import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.UUID;
 
 public class GeneratorController {
 
     static Logger LOGGER = LoggerFactory.getLogger(GeneratorController.class);
+    /**
+     * Part of the cache keys, to be increased when the contents of the bundles change for the same generator version;
+     * 2 includes the files codegens write themselves.
+     */
+    static final int BUNDLE_FORMAT = 2;
     static List<String> CLIENTS = new ArrayList<>();
     static List<String> SERVERS = new ArrayList<>();
 
     static {
-        final ServiceLoader<CodegenConfig> loader = ServiceLoader.load(CodegenConfig.class);
-
-        loader.forEach(config -> {
-            if (config.getTag().equals(CodegenType.CLIENT) || config.getTag().equals(CodegenType.DOCUMENTATION)) {
+        CodegenConfigRegistry.getInstance().getEntries().forEach(config -> {
+            if (config.getType().equals(CodegenType.CLIENT) || config.getType().equals(CodegenType.DOCUMENTATION)) {
                 CLIENTS.add(config.getName());
-            } else if (config.getTag().equals(CodegenType.SERVER)) {
+            } else if (config.getType().equals(CodegenType.SERVER)) {
                 SERVERS.add(config.getName());
             }
         });
@@ -63,6 +77,10 @@ public class GeneratorController {
     }
 
     public ResponseContext generateFiles(RequestContext context, String argumentsUrl) {
+        return generateFiles(context, argumentsUrl, null, null);
+    }
+
+    public ResponseContext generateFiles(RequestContext context, String argumentsUrl, Boolean stream, Integer compressionLevel) {
         final String content;
 
         try {
@@ -113,91 +131,311 @@ public class GeneratorController {
                     .entity("property 'spec' not found on: " + argumentsUrl);
         }
 
-        File outputRootFolder = getTmpFolder();
-        File outputContentFolder = new File(outputRootFolder, "content");
-        File outputFile = new File(outputRootFolder, node.findValue("lang").textValue() + "-bundle.zip");
-
-        final ClientOptInput clientOptInput = GeneratorUtil.getClientOptInput(node, outputContentFolder.getAbsolutePath());
-        return generate(clientOptInput, outputRootFolder, outputContentFolder, outputFile);
+        final String outputFolder = getOutputFolder();
+        final ClientOptInput clientOptInput = GeneratorUtil.getClientOptInput(node, outputFolder);
+        return generate(clientOptInput, node, outputFolder, node.findValue("lang").textValue() + "-bundle.zip", stream, compressionLevel);
     }
 
     public ResponseContext generate(RequestContext context, String language, String specUrl, String library) {
-        File outputRootFolder = getTmpFolder();
-        File outputContentFolder = new File(outputRootFolder, "content");
-        File outputFile = new File(outputRootFolder, language + "-bundle.zip");
+        return generate(context, language, specUrl, library, null, null);
+    }
 
-        ClientOptInput clientOptInput = new CodegenConfigurator()
+    public ResponseContext generate(RequestContext context, String language, String specUrl, String library, Boolean stream, Integer compressionLevel) {
+        final String outputFolder = getOutputFolder();
+        final ClientOptInput clientOptInput = GeneratorUtil.toClientOptInput(new CodegenConfigurator()
                 .setLang(language)
                 .setInputSpec(specUrl)
-                .setOutputDir(outputContentFolder.getAbsolutePath())
-                .setLibrary(library)
-                .toClientOptInput();
-        return generate(clientOptInput, outputRootFolder, outputContentFolder, outputFile);
+                .setOutputDir(outputFolder)
+                .setLibrary(library));
+        return generate(clientOptInput, Arrays.asList(language, library), outputFolder, language + "-bundle.zip", stream, compressionLevel);
     }
 
     public ResponseContext generate(RequestContext context, GenerationRequest generationRequest) {
-        File outputRootFolder = getTmpFolder();
-        File outputContentFolder = new File(outputRootFolder, "content");
-        File outputFile = new File(outputRootFolder, generationRequest.getOptions().getLang() + "-bundle.zip");
-        final ClientOptInput clientOptInput = GeneratorUtil.getClientOptInput(generationRequest, outputContentFolder.getAbsolutePath());
-        return generate(clientOptInput, outputRootFolder, outputContentFolder, outputFile);
+        final String error = validate(generationRequest);
+        if (error != null) {
+            return new ResponseContext()
+                    .status(400)
+                    .contentType(MediaType.APPLICATION_JSON_TYPE)
+                    .entity(error);
+        }
+        if (hasTargets(generationRequest)) {
+            return generateTargets(generationRequest);
+        }
+        final String outputFolder = getOutputFolder();
+        final ClientOptInput clientOptInput = GeneratorUtil.getClientOptInput(generationRequest, outputFolder);
+        return generate(clientOptInput, generationRequest.getOptions(), outputFolder, generationRequest.getOptions().getLang() + "-bundle.zip",
+                generationRequest.getStream(), generationRequest.getCompressionLevel());
     }
 
-    protected static File getTmpFolder() {
-        try {
-            File outputFolder = File.createTempFile("codegen-", "-tmp");
-            outputFolder.delete();
-            outputFolder.mkdir();
-            outputFolder.deleteOnExit();
-            return outputFolder;
-        } catch (Exception e) {
-            e.printStackTrace();
-            return null;
+    /**
+     * Files are rendered straight into the zip, the output folder names the zip entries. It is only created by
+     * codegens writing files to disk themselves, see {@link #addFilesOnDisk(OutputSink, String)}.
+     */
+    protected static String getOutputFolder() {
+        return new File(FileUtils.getTempDirectory(), "codegen-" + UUID.randomUUID() + File.separator + "content").getAbsolutePath();
+    }
+
+    /**
+     * @return why the request can't be generated, or null if it is valid
+     */
+    static String validate(GenerationRequest generationRequest) {
+        if (generationRequest.getSpec() == null) {
+            return "spec must be specified";
+        }
+        if ((generationRequest.getOptions() != null) == hasTargets(generationRequest)) {
+            return "either options or targets must be specified";
         }
+        final List<Options> targets = hasTargets(generationRequest) ? generationRequest.getTargets() : Collections.singletonList(generationRequest.getOptions());
+        for (Options options : targets) {
+            if (options == null || StringUtils.isBlank(options.getLang())) {
+                return "language must be specified";
+            }
+        }
+        return null;
+    }
+
+    static boolean hasTargets(GenerationRequest generationRequest) {
+        return generationRequest.getTargets() != null && !generationRequest.getTargets().isEmpty();
+    }
+
+    private ResponseContext generateTargets(GenerationRequest generationRequest) {
+        final String outputFolder = getOutputFolder();
+        final TargetsGeneration generation = new TargetsGeneration(generationRequest, outputFolder, null);
+        return generate(generation.getOpenAPI(), generationRequest.getTargets(), generation, outputFolder, "multi-bundle.zip",
+                generationRequest.getStream(), generationRequest.getCompressionLevel());
+    }
+
+    public ResponseContext getCacheStats(RequestContext requestContext) {
+        return new ResponseContext()
+                .status(Response.Status.OK.getStatusCode())
+                .entity(GenerationCache.getInstance().getStats());
     }
 
-    private ResponseContext generate(ClientOptInput clientOptInput, File outputRootFolder, File outputContentFolder, File outputFile) {
-        new DefaultGenerator().opts(clientOptInput).generate();
+    private ResponseContext generate(ClientOptInput clientOptInput, Object requestOptions, String outputFolder, String bundleName, Boolean stream, Integer compressionLevel) {
+        return generate(clientOptInput.getOpenAPI(), requestOptions, generation(clientOptInput), outputFolder, bundleName, stream, compressionLevel);
+    }
 
-        final ZipUtil zipUtil = new ZipUtil();
+    /**
+     * @param openAPI parsed spec, not modified by the generation
+     * @param requestOptions options of the request besides the spec, part of the cache key along with the parsed spec
+     */
+    private ResponseContext generate(OpenAPI openAPI, Object requestOptions, Generation generation, String outputFolder, String bundleName, Boolean stream, Integer compressionLevel) {
+        if (!isValidCompressionLevel(compressionLevel)) {
+            return new ResponseContext()
+                    .status(400)
+                    .contentType(MediaType.APPLICATION_JSON_TYPE)
+                    .entity("compressionLevel must be between 0 and 9.");
+        }
+        final String cacheKey = cacheKey(openAPI, requestOptions, compressionLevel);
+        if (cacheKey != null) {
+            final byte[] cached = GenerationCache.getInstance().get(cacheKey);
+            if (cached != null) {
+                LOGGER.debug("Serving cached " + bundleName);
+                return bundleResponse(cached, bundleName);
+            }
+        }
+        if (Boolean.TRUE.equals(stream)) {
+            // streamed bundles are not kept, so they are not cached
+            return stream(generation, outputFolder, bundleName, compressionLevel);
+        }
         try {
-            zipUtil.compressFiles(Arrays.asList(outputContentFolder.listFiles()), outputFile.getAbsolutePath());
+            return bundleResponse(generateBundle(generation, cacheKey, outputFolder, compressionLevel), bundleName);
         } catch (IOException e) {
+            LOGGER.error("Could not generate zip file.", e);
             return new ResponseContext()
                     .status(500)
                     .contentType(MediaType.APPLICATION_JSON_TYPE)
                     .entity("Could not generate zip file.");
         }
+    }
 
-        if (!outputFile.exists()) {
-            return new ResponseContext()
-                    .status(500)
-                    .contentType(MediaType.APPLICATION_JSON_TYPE)
-                    .entity("File was not generated.");
+    static boolean isValidCompressionLevel(Integer compressionLevel) {
+        return compressionLevel == null || (compressionLevel >= 0 && compressionLevel <= 9);
+    }
+
+    /**
+     * Must be called before generating, which modifies the parsed spec. The key includes the generator version, so
+     * bundles cached on disk by a previous version are not served after an upgrade, and the bundle format, so
+     * bundles cached before a fix of the bundle contents are not served either.
+     *
+     * @return key of the bundle in the generation cache, or null if the cache is disabled
+     */
+    static String cacheKey(OpenAPI openAPI, Object requestOptions, Integer compressionLevel) {
+        if (!GenerationCache.getInstance().isEnabled() || openAPI == null) {
+            return null;
         }
-        byte[] bytes = null;
-        try {
-            bytes = FileUtils.readFileToByteArray(outputFile);
-        } catch (IOException ex) {
-            LOGGER.error("Error converting file to bytes.", ex);
-            bytes = null;
+        return GenerationCache.key(ImplementationVersion.read(), BUNDLE_FORMAT, openAPI, requestOptions, compressionLevel);
+    }
+
+    /**
+     * Renders the files of a bundle into a sink.
+     */
+    interface Generation {
+        /**
+         * @return the files written by the generator
+         */
+        List<File> generate(OutputSink outputSink);
+    }
+
+    static Generation generation(ClientOptInput clientOptInput) {
+        return outputSink -> new DefaultGenerator().opts(clientOptInput.outputSink(outputSink)).generate();
+    }
+
+    /**
+     * Generates each target of a request from its own copy of the spec, parsed once. The files of each target are
+     * zipped in a folder named after its language.
+     */
+    static class TargetsGeneration implements Generation {
+        private final OpenAPI openAPI;
+        private final MultiTargetGenerator generator;
+        private final List<CodegenConfigurator> targets = new ArrayList<>();
+        private final GenerationContext generationContext;
+
+        /**
+         * @param generationContext context cancelling the targets, e.g. of a job, null if they can't be cancelled
+         */
+        TargetsGeneration(GenerationRequest generationRequest, String outputFolder, GenerationContext generationContext) {
+            final Set<String> folders = new HashSet<>();
+            for (Options options : generationRequest.getTargets()) {
+                String folder = options.getLang();
+                for (int i = 2; !folders.add(folder); i++) {
+                    folder = options.getLang() + "-" + i;
+                }
+                targets.add(GeneratorUtil.getConfigurator(options, outputFolder + File.separator + folder));
+            }
+            this.openAPI = targets.get(0).readOpenAPI(GeneratorUtil.getInputSpec(generationRequest));
+            this.generator = new MultiTargetGenerator(openAPI);
+            this.generationContext = generationContext;
         }
-        try {
-            FileUtils.deleteDirectory(outputRootFolder);
-        } catch (IOException ex) {
-            LOGGER.error("Could not delete files.", ex);
-        }
-        if (bytes != null) {
-            return new ResponseContext().status(200)
-                    .entity(bytes)
-                    .contentType(MediaType.APPLICATION_OCTET_STREAM_TYPE)
-                    .header("Content-Disposition", String.format("attachment; filename=\"generated-%s\"", outputFile.getName()))
-                    .header("Accept-Range", "bytes")
-                    .header("Content-Length", String.valueOf(bytes.length));
+
+        /**
+         * @return parsed spec, not modified by the generation
+         */
+        OpenAPI getOpenAPI() {
+            return openAPI;
         }
-        return new ResponseContext()
-                .status(500)
-                .contentType(MediaType.APPLICATION_JSON_TYPE)
-                .entity("Could not generate files.");
+
+        @Override
+        public List<File> generate(OutputSink outputSink) {
+            final List<File> files = new ArrayList<>();
+            for (CodegenConfigurator target : targets) {
+                final ClientOptInput clientOptInput = generator.toClientOptInput(target).outputSink(outputSink);
+                if (generationContext != null) {
+                    // each target keeps its own properties
+                    final GenerationContext cancelling = generationContext;
+                    clientOptInput.generationContext(new GenerationContext(clientOptInput.getGenerationContext().getProperties()) {
+                        @Override
+                        public boolean isCancelled() {
+                            return super.isCancelled() || cancelling.isCancelled();
+                        }
+                    });
+                }
+                files.addAll(new DefaultGenerator().opts(clientOptInput).generate());
+            }
+            return files;
+        }
+    }
+
+    /**
+     * Generates the zip bundle in memory and caches it, unless files the generator wrote are missing from it.
+     *
+     * @param cacheKey key computed with {@link #cacheKey(OpenAPI, Object, Integer)}, null to not cache the bundle
+     */
+    static byte[] generateBundle(Generation generation, String cacheKey, String outputFolder, Integer compressionLevel) throws IOException {
+        final ByteArrayOutputStream bundle = new ByteArrayOutputStream();
+        final boolean complete;
+        try (ZipOutputSink outputSink = new ZipOutputSink(bundle, outputFolder)) {
+            if (compressionLevel != null) {
+                outputSink.setLevel(compressionLevel);
+            }
+            try {
+                final List<File> files = generation.generate(outputSink);
+                addFilesOnDisk(outputSink, outputFolder);
+                complete = isComplete(outputSink, files);
+            } finally {
+                deleteOutputFolder(outputFolder);
+            }
+        }
+        final byte[] bytes = bundle.toByteArray();
+        if (cacheKey != null && complete) {
+            GenerationCache.getInstance().put(cacheKey, bytes);
+        }
+        return bytes;
+    }
+
+    /**
+     * @param files files written by the generator
+     * @return true if the zip holds the last contents of every file
+     */
+    static boolean isComplete(ZipOutputSink outputSink, List<File> files) {
+        if (!outputSink.getSkipped().isEmpty()) {
+            LOGGER.warn("Not caching a bundle missing later contents of " + outputSink.getSkipped());
+            return false;
+        }
+        for (File file : files) {
+            if (!outputSink.exists(file.getPath())) {
+                LOGGER.warn("Not caching a bundle missing " + file);
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Adds the files a codegen wrote to the output folder on disk instead of to the sink, e.g. a custom codegen
+     * writing a copy of the spec itself.
+     */
+    static void addFilesOnDisk(OutputSink outputSink, String outputFolder) throws IOException {
+        final File folder = new File(outputFolder);
+        if (!folder.isDirectory()) {
+            return;
+        }
+        for (File file : FileUtils.listFiles(folder, null, true)) {
+            LOGGER.debug("Adding " + file + " written to disk by the codegen");
+            outputSink.write(file.getPath(), FileUtils.readFileToByteArray(file));
+        }
+    }
+
+    /**
+     * Deletes the folder of the output folder, which is unique to the generation, if a codegen created it.
+     */
+    static void deleteOutputFolder(String outputFolder) {
+        FileUtils.deleteQuietly(new File(outputFolder).getParentFile());
+    }
+
+    static ResponseContext bundleResponse(byte[] bytes, String bundleName) {
+        return new ResponseContext().status(200)
+                .entity(bytes)
+                .contentType(MediaType.APPLICATION_OCTET_STREAM_TYPE)
+                .header("Content-Disposition", String.format("attachment; filename=\"generated-%s\"", bundleName))
+                .header("Accept-Range", "bytes")
+                .header("Content-Length", String.valueOf(bytes.length));
+    }
+
+    /**
+     * Compresses each file into the response as soon as it is rendered. The response is sent with chunked transfer
+     * encoding, so its size is unknown; a generation error aborts the response and leaves a truncated zip.
+     */
+    private ResponseContext stream(Generation generation, String outputFolder, String bundleName, Integer compressionLevel) {
+        final StreamingOutput entity = out -> {
+            final ZipOutputSink outputSink = new ZipOutputSink(out, outputFolder);
+            if (compressionLevel != null) {
+                outputSink.setLevel(compressionLevel);
+            }
+            try {
+                generation.generate(outputSink);
+                addFilesOnDisk(outputSink, outputFolder);
+            } catch (RuntimeException e) {
+                LOGGER.error("Could not generate files, aborting streamed " + bundleName, e);
+                throw e;
+            } finally {
+                deleteOutputFolder(outputFolder);
+            }
+            outputSink.finish();
+        };
+        return new ResponseContext().status(200)
+                .entity(entity)
+                .contentType(MediaType.APPLICATION_OCTET_STREAM_TYPE)
+                .header("Content-Disposition", String.format("attachment; filename=\"generated-%s\"", bundleName));
     }
 }
@@ -0,0 +1,130 @@
+package io.swagger.generator.online;
+
+import io.swagger.codegen.ClientOptInput;
+import io.swagger.generator.cache.GenerationCache;
+import io.swagger.generator.jobs.GenerationJobs;
+import io.swagger.generator.model.ApiResponse;
+import io.swagger.generator.model.GenerationJob;
+import io.swagger.generator.model.GenerationRequest;
+import io.swagger.generator.util.GeneratorUtil;
+import io.swagger.oas.inflector.models.RequestContext;
+import io.swagger.oas.inflector.models.ResponseContext;
+
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+
+public class JobController {
+
+    public ResponseContext submitJob(RequestContext context, GenerationRequest generationRequest) {
+        final String error = GeneratorController.validate(generationRequest);
+        if (error != null) {
+            return new ResponseContext()
+                    .status(400)
+                    .contentType(MediaType.APPLICATION_JSON_TYPE)
+                    .entity(error);
+        }
+        final Integer compressionLevel = generationRequest.getCompressionLevel();
+        if (!GeneratorController.isValidCompressionLevel(compressionLevel)) {
+            return new ResponseContext()
+                    .status(400)
+                    .contentType(MediaType.APPLICATION_JSON_TYPE)
+                    .entity("compressionLevel must be between 0 and 9.");
+        }
+        final GenerationJob job;
+        try {
+            job = GenerationJobs.getInstance().submit(generationContext -> {
+                // the spec is parsed by the worker, not while the client waits for the job id
+                final String outputFolder = GeneratorController.getOutputFolder();
+                if (GeneratorController.hasTargets(generationRequest)) {
+                    final GeneratorController.TargetsGeneration generation = new GeneratorController.TargetsGeneration(generationRequest, outputFolder, generationContext);
+                    final String cacheKey = GeneratorController.cacheKey(generation.getOpenAPI(), generationRequest.getTargets(), compressionLevel);
+                    return generateBundle(generation, cacheKey, outputFolder, compressionLevel);
+                }
+                final ClientOptInput clientOptInput = GeneratorUtil.getClientOptInput(generationRequest, outputFolder);
+                for (Map.Entry<String, String> property : clientOptInput.getGenerationContext().getProperties().entrySet()) {
+                    generationContext.setProperty(property.getKey(), property.getValue());
+                }
+                clientOptInput.generationContext(generationContext);
+                final String cacheKey = GeneratorController.cacheKey(clientOptInput.getOpenAPI(), generationRequest.getOptions(), compressionLevel);
+                return generateBundle(GeneratorController.generation(clientOptInput), cacheKey, outputFolder, compressionLevel);
+            });
+        } catch (RejectedExecutionException e) {
+            return new ResponseContext()
+                    .status(Response.Status.SERVICE_UNAVAILABLE.getStatusCode())
+                    .contentType(MediaType.APPLICATION_JSON_TYPE)
+                    .entity(new ApiResponse(ApiResponse.TOO_BUSY, "Too many generation jobs queued, try again later."));
+        }
+        return new ResponseContext()
+                .status(Response.Status.ACCEPTED.getStatusCode())
+                .contentType(MediaType.APPLICATION_JSON_TYPE)
+                .entity(job);
+    }
+
+    /**
+     * Serves the bundle from the cache, or generates and caches it.
+     */
+    private static byte[] generateBundle(GeneratorController.Generation generation, String cacheKey, String outputFolder, Integer compressionLevel) throws IOException {
+        if (cacheKey != null) {
+            final byte[] cached = GenerationCache.getInstance().get(cacheKey);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        return GeneratorController.generateBundle(generation, cacheKey, outputFolder, compressionLevel);
+    }
+
+    public ResponseContext getJob(RequestContext context, String jobId) {
+        final GenerationJob job = GenerationJobs.getInstance().get(jobId);
+        if (job == null) {
+            return notFound(jobId);
+        }
+        return new ResponseContext()
+                .status(Response.Status.OK.getStatusCode())
+                .contentType(MediaType.APPLICATION_JSON_TYPE)
+                .entity(job);
+    }
+
+    public ResponseContext getJobResult(RequestContext context, String jobId) {
+        final GenerationJobs jobs = GenerationJobs.getInstance();
+        final GenerationJob job = jobs.get(jobId);
+        if (job == null) {
+            return notFound(jobId);
+        }
+        final byte[] result = jobs.getResult(jobId);
+        if (result == null && job.getStatus() == GenerationJob.Status.DONE) {
+            // the bundle was dropped to free memory
+            return new ResponseContext()
+                    .status(Response.Status.GONE.getStatusCode())
+                    .contentType(MediaType.APPLICATION_JSON_TYPE)
+                    .entity(job);
+        }
+        if (result == null) {
+            return new ResponseContext()
+                    .status(Response.Status.CONFLICT.getStatusCode())
+                    .contentType(MediaType.APPLICATION_JSON_TYPE)
+                    .entity(job);
+        }
+        return GeneratorController.bundleResponse(result, jobId + ".zip");
+    }
+
+    public ResponseContext cancelJob(RequestContext context, String jobId) {
+        final GenerationJob job = GenerationJobs.getInstance().cancel(jobId);
+        if (job == null) {
+            return notFound(jobId);
+        }
+        return new ResponseContext()
+                .status(Response.Status.OK.getStatusCode())
+                .contentType(MediaType.APPLICATION_JSON_TYPE)
+                .entity(job);
+    }
+
+    private static ResponseContext notFound(String jobId) {
+        return new ResponseContext()
+                .status(Response.Status.NOT_FOUND.getStatusCode())
+                .contentType(MediaType.APPLICATION_JSON_TYPE)
+                .entity("Job not found: " + jobId);
+    }
+}
@@ -3,6 +3,7 @@ package io.swagger.generator.util;
 import com.fasterxml.jackson.databind.JsonNode;
 import io.swagger.codegen.ClientOptInput;
 import io.swagger.codegen.config.CodegenConfigurator;
+import io.swagger.generator.cache.SpecCache;
 import io.swagger.generator.model.GenerationRequest;
 import io.swagger.generator.model.Options;
 import io.swagger.v3.core.util.Json;
@@ -24,10 +25,21 @@ public class GeneratorUtil {
 
 
     public static ClientOptInput getClientOptInput(GenerationRequest generationRequest, String outputDir) {
-        final Options options = generationRequest.getOptions();
-        String inputSpec = Json.pretty(generationRequest.getSpec());
+        return getConfigurator(generationRequest.getOptions(), outputDir).toClientOptInput(getInputSpec(generationRequest));
+    }
+
+    /**
+     * @return the spec of the request, already deserialized with the request and converted to a tree without
+     * writing it to a string
+     */
+    public static JsonNode getInputSpec(GenerationRequest generationRequest) {
+        Validate.notNull(generationRequest.getSpec(), "input spec must be specified");
+        return Json.mapper().valueToTree(generationRequest.getSpec());
+    }
+
+    public static CodegenConfigurator getConfigurator(Options options, String outputDir) {
+        Validate.notNull(options, "options must be specified");
         Validate.notEmpty(options.getLang(), "language must be specified");
-        Validate.notEmpty(inputSpec, "input spec must be specified");
 
         CodegenConfigurator configurator = new CodegenConfigurator();
 
@@ -106,7 +118,7 @@ public class GeneratorUtil {
             applyReservedWordsMappingsKvpList(options.getReservedWordsMappings(), configurator);
         }
 
-        return configurator.toClientOptInput(inputSpec);
+        return configurator;
     }
 
     public static ClientOptInput getClientOptInput(JsonNode node, String outputDir) {
@@ -230,6 +242,15 @@ public class GeneratorUtil {
             applyReservedWordsMappingsKvpList(languageSpecificPrimitives, configurator);
         }
 
-        return configurator.toClientOptInput();
+        return toClientOptInput(configurator);
+    }
+
+    /**
+     * Same as {@link CodegenConfigurator#toClientOptInput()}, with the spec read through the {@link SpecCache}.
+     */
+    public static ClientOptInput toClientOptInput(CodegenConfigurator configurator) {
+        Validate.notEmpty(configurator.getLang(), "language must be specified");
+        Validate.notEmpty(configurator.getInputSpec(), "input spec must be specified");
+        return configurator.toClientOptInput(SpecCache.getInstance().get(configurator.getInputSpec(), configurator.getAuth()));
     }
 }
@@ -0,0 +1,66 @@
+package io.swagger.generator.cache;
+
+import io.swagger.generator.model.Options;
+import org.apache.commons.io.FileUtils;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertNull;
+
+public class GenerationCacheTest {
+
+    private File directory;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        directory = Files.createTempDirectory("generation-cache").toFile();
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+        FileUtils.deleteDirectory(directory);
+    }
+
+    @Test(description = "keys don't depend on the order of the fields")
+    public void testKey() {
+        final Map<String, Object> spec = new LinkedHashMap<>();
+        spec.put("openapi", "3.0.0");
+        spec.put("info", "petstore");
+        final Map<String, Object> reordered = new LinkedHashMap<>();
+        reordered.put("info", "petstore");
+        reordered.put("openapi", "3.0.0");
+
+        final String key = GenerationCache.key(spec, new Options().lang("java"), null);
+        assertEquals(GenerationCache.key(reordered, new Options().lang("java"), null), key);
+        assertNotEquals(GenerationCache.key(spec, new Options().lang("java").library("feign"), null), key);
+        assertNotEquals(GenerationCache.key(spec, new Options().lang("java"), 9), key);
+    }
+
+    @Test(description = "bundles evicted from memory are served from disk")
+    public void testTiers() {
+        final GenerationCache cache = new GenerationCache(10, directory, 15);
+        cache.put("a", new byte[8]);
+        new File(directory, "a.zip").setLastModified(1000L);
+        cache.put("b", new byte[8]);
+
+        // a is evicted from memory, and from disk as the least recently used bundle
+        assertNull(cache.get("a"));
+        assertEquals(cache.get("b").length, 8);
+        assertEquals(new GenerationCache(10, directory, 15).get("b").length, 8);
+
+        final Map<String, Long> stats = cache.getStats();
+        assertEquals(stats.get("memoryHits").longValue(), 1L);
+        assertEquals(stats.get("misses").longValue(), 1L);
+        assertEquals(stats.get("memoryEvictions").longValue(), 1L);
+        assertEquals(stats.get("diskEvictions").longValue(), 1L);
+        assertEquals(stats.get("diskBytes").longValue(), 8L);
+    }
+}
@@ -0,0 +1,82 @@
+package io.swagger.generator.cache;
+
+import com.sun.net.httpserver.HttpServer;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+
+public class SpecCacheTest {
+
+    private static final String SPEC = "{\"openapi\":\"3.0.0\",\"info\":{\"title\":\"petstore\",\"version\":\"1.0.0\"},\"paths\":{},"
+            + "\"components\":{\"schemas\":{\"Pet\":{\"type\":\"object\",\"properties\":{\"name\":{\"type\":\"string\"}}}}}}";
+
+    private HttpServer server;
+    private final AtomicInteger fetches = new AtomicInteger();
+    private final AtomicInteger notModified = new AtomicInteger();
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/spec.json", exchange -> {
+            fetches.incrementAndGet();
+            if ("\"v1\"".equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                notModified.incrementAndGet();
+                exchange.sendResponseHeaders(304, -1);
+                exchange.close();
+                return;
+            }
+            final byte[] body = SPEC.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("ETag", "\"v1\"");
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    @Test(description = "unmodified specs are served from the cache as copies")
+    public void testRevalidation() {
+        final String url = "http://localhost:" + server.getAddress().getPort() + "/spec.json";
+        final SpecCache cache = new SpecCache(1024 * 1024);
+
+        final OpenAPI first = cache.get(url, null);
+        assertEquals(first.getInfo().getTitle(), "petstore");
+        first.getComponents().getSchemas().remove("Pet");
+        // parsed from the fetched contents
+        assertEquals(fetches.get(), 1);
+
+        final OpenAPI second = cache.get(url, null);
+        assertNotSame(second, first);
+        assertEquals(second.getComponents().getSchemas().keySet().size(), 1);
+        assertEquals(fetches.get(), 2);
+        assertEquals(notModified.get(), 1);
+        assertEquals(cache.size(), 1L);
+    }
+
+    @Test(description = "specs larger than the cache are not kept")
+    public void testEviction() {
+        final String url = "http://localhost:" + server.getAddress().getPort() + "/spec.json";
+        final SpecCache cache = new SpecCache(10);
+
+        cache.get(url, null);
+        cache.get(url, null);
+        assertEquals(notModified.get(), 0);
+        assertEquals(cache.size(), 0L);
+    }
+}
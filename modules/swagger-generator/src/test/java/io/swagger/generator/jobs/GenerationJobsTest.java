@@ -0,0 +1,102 @@
+package io.swagger.generator.jobs;
+
+import io.swagger.generator.model.GenerationJob;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.fail;
+
+public class GenerationJobsTest {
+
+    @Test(description = "jobs run in the background and keep their bundle")
+    public void testDone() throws Exception {
+        final GenerationJobs jobs = new GenerationJobs(1, 1, 0, 60000);
+        final CountDownLatch release = new CountDownLatch(1);
+        final GenerationJob job = jobs.submit(context -> {
+            release.await();
+            return new byte[]{1, 2, 3};
+        });
+        assertNull(jobs.getResult(job.getId()));
+
+        release.countDown();
+        assertEquals(await(jobs, job.getId()).getStatus(), GenerationJob.Status.DONE);
+        assertEquals(jobs.getResult(job.getId()).length, 3);
+        assertNull(jobs.get("unknown"));
+    }
+
+    @Test(description = "the bundles of the oldest jobs are dropped once over the size limit")
+    public void testResultsSize() throws Exception {
+        final GenerationJobs jobs = new GenerationJobs(1, 2, 0, 60000, 5);
+        final GenerationJob first = jobs.submit(context -> new byte[]{1, 2, 3});
+        assertEquals(await(jobs, first.getId()).getStatus(), GenerationJob.Status.DONE);
+        assertEquals(jobs.getResult(first.getId()).length, 3);
+
+        final GenerationJob second = jobs.submit(context -> new byte[]{4, 5, 6});
+        assertEquals(await(jobs, second.getId()).getStatus(), GenerationJob.Status.DONE);
+        assertEquals(jobs.getResult(second.getId()).length, 3);
+
+        final GenerationJob dropped = jobs.get(first.getId());
+        assertEquals(dropped.getStatus(), GenerationJob.Status.DONE);
+        assertNull(jobs.getResult(first.getId()));
+        assertEquals(dropped.getMessage(), "Result dropped to free memory, submit the job again");
+    }
+
+    @Test(description = "jobs are rejected once the queue is full, and queued jobs can be cancelled")
+    public void testQueue() throws Exception {
+        final GenerationJobs jobs = new GenerationJobs(1, 1, 0, 60000);
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final GenerationJob running = jobs.submit(context -> {
+            started.countDown();
+            release.await();
+            return new byte[0];
+        });
+        started.await();
+        final GenerationJob queued = jobs.submit(context -> new byte[0]);
+        try {
+            jobs.submit(context -> new byte[0]);
+            fail("the queue is full");
+        } catch (RejectedExecutionException e) {
+            // expected
+        }
+
+        assertEquals(jobs.cancel(queued.getId()).getStatus(), GenerationJob.Status.CANCELLED);
+        assertEquals(jobs.getQueueDepth(), 0);
+        release.countDown();
+        assertEquals(await(jobs, running.getId()).getStatus(), GenerationJob.Status.DONE);
+    }
+
+    @Test(description = "running jobs stop when cancelled or timed out")
+    public void testCancel() throws Exception {
+        final GenerationJobs jobs = new GenerationJobs(2, 1, 200, 60000);
+        final GenerationJobs.Task task = context -> {
+            while (!context.isCancelled()) {
+                Thread.sleep(10);
+            }
+            throw new IllegalStateException("cancelled");
+        };
+        final GenerationJob cancelled = jobs.submit(task);
+        jobs.cancel(cancelled.getId());
+        final GenerationJob timedOut = jobs.submit(task);
+
+        assertEquals(await(jobs, cancelled.getId()).getStatus(), GenerationJob.Status.CANCELLED);
+        final GenerationJob status = await(jobs, timedOut.getId());
+        assertEquals(status.getStatus(), GenerationJob.Status.FAILED);
+        assertEquals(status.getMessage(), "Generation timed out after 200 ms");
+    }
+
+    private static GenerationJob await(GenerationJobs jobs, String id) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        GenerationJob job = jobs.get(id);
+        while (job.getFinished() == null && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            job = jobs.get(id);
+        }
+        return job;
+    }
+}
@@ -73,5 +73,29 @@ public class GeneratorControllerIT {
         Assert.assertTrue(response.getFirstHeader("Content-Disposition").getValue().contains(" filename=\"generated-java-bundle.zip\""));
     }
 
+    @Test(enabled = false)
+    public void generateJavaStreamed() throws Exception {
+        String json = FileUtils.readFileToString(new File("src/test/resources/petstore-oas3.json"));
+        JsonNode node = Json.mapper().readTree(json);
+        Map<String, Object> spec = Json.mapper().convertValue(node, LinkedHashMap.class);
+
+        GenerationRequest generationRequest = new GenerationRequest()
+                .spec(spec)
+                .options(new Options()
+                        .lang("java"))
+                .stream(true)
+                .compressionLevel(1);
+        HttpEntity entity = new StringEntity(Json.pretty(generationRequest), "UTF-8");
 
+        HttpPost post = new HttpPost(DEFAULT_HOST + "/generate");
+        post.setHeader("Content-Type", "application/json");
+        post.setEntity(entity);
+
+        final HttpResponse response = client.execute(post);
+        int responseCode = response.getStatusLine().getStatusCode();
+        Assert.assertEquals(responseCode, 200);
+        Assert.assertNull(response.getFirstHeader("Content-Length"));
+        Assert.assertEquals(response.getFirstHeader("Transfer-Encoding").getValue(), "chunked");
+        Assert.assertTrue(response.getFirstHeader("Content-Disposition").getValue().contains(" filename=\"generated-java-bundle.zip\""));
+    }
 }
@@ -0,0 +1,101 @@
+package io.swagger.generator.online;
+
+import io.swagger.generator.cache.GenerationCache;
+import io.swagger.generator.model.GenerationRequest;
+import io.swagger.generator.model.Options;
+import io.swagger.oas.inflector.models.ResponseContext;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+public class GeneratorControllerTest {
+
+    private static final Object SPEC = Collections.singletonMap("openapi", "3.0.0");
+
+    @Test(description = "either options or targets must be given")
+    public void testOptionsOrTargets() {
+        assertEquals(GeneratorController.validate(new GenerationRequest().spec(SPEC)), "either options or targets must be specified");
+        assertEquals(GeneratorController.validate(new GenerationRequest().spec(SPEC)
+                .options(new Options().lang("java"))
+                .targets(Collections.singletonList(new Options().lang("python")))), "either options or targets must be specified");
+
+        assertNull(GeneratorController.validate(new GenerationRequest().spec(SPEC).options(new Options().lang("java"))));
+        assertNull(GeneratorController.validate(new GenerationRequest().spec(SPEC)
+                .targets(Arrays.asList(new Options().lang("java"), new Options().lang("python")))));
+    }
+
+    @Test(description = "each target needs a language")
+    public void testLanguage() {
+        assertEquals(GeneratorController.validate(new GenerationRequest().spec(SPEC).options(new Options())), "language must be specified");
+        assertEquals(GeneratorController.validate(new GenerationRequest().spec(SPEC)
+                .targets(Arrays.asList(new Options().lang("java"), new Options()))), "language must be specified");
+        assertEquals(GeneratorController.validate(new GenerationRequest().options(new Options().lang("java"))), "spec must be specified");
+    }
+
+    @Test(description = "files the codegen writes itself are in the bundle")
+    public void testCodegenWrittenFiles() throws Exception {
+        final ResponseContext generated = new GeneratorController().generate(null, "swagger",
+                new File("src/test/resources/petstore-oas3.json").getAbsolutePath(), null);
+        assertEquals(generated.getStatus(), 200);
+
+        final Set<String> entries = new HashSet<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream((byte[]) generated.getEntity()))) {
+            for (ZipEntry entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+                entries.add(entry.getName());
+            }
+        }
+        assertTrue(entries.contains("swagger.json"), "Expected swagger.json in " + entries);
+    }
+
+    @Test(description = "bundles missing the last contents of a file are not cached")
+    public void testIncompleteBundleNotCached() throws Exception {
+        final String outputFolder = GeneratorController.getOutputFolder();
+        final File readme = new File(outputFolder, "README.md");
+
+        final String complete = UUID.randomUUID().toString();
+        GeneratorController.generateBundle(writing(readme, "# Pets"), complete, outputFolder, null);
+        assertNotNull(GenerationCache.getInstance().get(complete));
+
+        final String incomplete = UUID.randomUUID().toString();
+        GeneratorController.generateBundle(writing(readme, "# Pets", "# Other"), incomplete, outputFolder, null);
+        assertNull(GenerationCache.getInstance().get(incomplete));
+    }
+
+    private static GeneratorController.Generation writing(File file, String... contents) {
+        return outputSink -> {
+            for (String content : contents) {
+                try {
+                    outputSink.write(file.getPath(), content.getBytes(StandardCharsets.UTF_8));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+            return Collections.singletonList(file);
+        };
+    }
+
+    @Test(description = "invalid requests are rejected before generating")
+    public void testBadRequest() {
+        final ResponseContext generated = new GeneratorController().generate(null, new GenerationRequest().spec(SPEC));
+        assertEquals(generated.getStatus(), 400);
+
+        final ResponseContext submitted = new JobController().submitJob(null, new GenerationRequest().spec(SPEC));
+        assertEquals(submitted.getStatus(), 400);
+    }
+}